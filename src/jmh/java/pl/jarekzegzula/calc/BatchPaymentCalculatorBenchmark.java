@@ -0,0 +1,76 @@
+package pl.jarekzegzula.calc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import pl.jarekzegzula.contract.ContractType;
+import pl.jarekzegzula.contractor.Contractor;
+
+/** Row by row payment calculation against the grouped batch calculator, mixed contract types. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class BatchPaymentCalculatorBenchmark {
+
+  @Param({"1000", "100000", "1000000"})
+  public int rows;
+
+  private List<Double> workedHours;
+
+  private List<Contractor> contractors;
+
+  private PaymentBatch batch;
+
+  @Setup
+  public void setUp() {
+    SplittableRandom random = new SplittableRandom(42);
+    ContractType[] contractTypes = ContractType.values();
+    this.workedHours = new ArrayList<>(rows);
+    this.contractors = new ArrayList<>(rows);
+    for (int i = 0; i < rows; i++) {
+      Contractor contractor =
+          CalculatorPaymentBenchmark.contractor(
+              contractTypes[random.nextInt(contractTypes.length)]);
+      contractors.add(contractor);
+      workedHours.add(random.nextInt(80_000, 200_000) / 1000.0);
+    }
+    this.batch = PaymentBatch.of(workedHours, contractors);
+  }
+
+  @Benchmark
+  public void perRow(Blackhole blackhole) {
+    for (int i = 0; i < rows; i++) {
+      blackhole.consume(
+          Calculator.calculateContractorPayment(workedHours.get(i), contractors.get(i)));
+      blackhole.consume(
+          Calculator.calculateClientsChargeFromContractorHours(
+              workedHours.get(i), contractors.get(i)));
+    }
+  }
+
+  @Benchmark
+  public PaymentBatchResult batch() {
+    return BatchPaymentCalculator.calculate(batch);
+  }
+
+  @Benchmark
+  public PaymentBatchResult parallelBatch() {
+    return BatchPaymentCalculator.calculate(batch, true);
+  }
+}
@@ -0,0 +1,117 @@
+package pl.jarekzegzula.calc;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import pl.jarekzegzula.contract.ContractType;
+import pl.jarekzegzula.contractor.Contractor;
+
+/** Single payment calculations, one scenario per contract type and overtime branch. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CalculatorPaymentBenchmark {
+
+  public enum Scenario {
+    EMPLOYMENT_UNDER_LIMIT(ContractType.CONTRACT_OF_EMPLOYMENT, 120.0),
+    EMPLOYMENT_AT_LIMIT(ContractType.CONTRACT_OF_EMPLOYMENT, 160.0),
+    EMPLOYMENT_OVERTIME(ContractType.CONTRACT_OF_EMPLOYMENT, 185.5),
+    MANDATE(ContractType.CONTRACT_OF_MANDATE, 185.5),
+    B2B_UNDER_LIMIT(ContractType.CONTRACT_B2B, 120.0),
+    B2B_OVERTIME(ContractType.CONTRACT_B2B, 185.5);
+
+    private final ContractType contractType;
+
+    private final Double workedHours;
+
+    Scenario(ContractType contractType, Double workedHours) {
+      this.contractType = contractType;
+      this.workedHours = workedHours;
+    }
+  }
+
+  @Param public Scenario scenario;
+
+  private Contractor contractor;
+
+  private Double workedHours;
+
+  @Setup
+  public void setUp() {
+    this.contractor = contractor(scenario.contractType);
+    this.workedHours = scenario.workedHours;
+  }
+
+  @Benchmark
+  public BigDecimal contractorPayment() {
+    return Calculator.calculateContractorPayment(workedHours, contractor);
+  }
+
+  @Benchmark
+  public BigDecimal clientCharge() {
+    return Calculator.calculateClientsChargeFromContractorHours(workedHours, contractor);
+  }
+
+  @Benchmark
+  public BigDecimal branchPayment() {
+    return switch (scenario.contractType) {
+      case CONTRACT_OF_EMPLOYMENT ->
+          Calculator.calculatePaymentForContractOfEmployment(workedHours, contractor);
+      case CONTRACT_OF_MANDATE ->
+          Calculator.calculatePaymentForContractOfMandate(workedHours, contractor);
+      case CONTRACT_B2B -> Calculator.calculatePaymentForB2BContract(workedHours, contractor);
+    };
+  }
+
+  /** Payment in cents, without creating the {@link BigDecimal}. */
+  @Benchmark
+  public long fixedPointPaymentCents() {
+    return FixedPointMoney.contractorPaymentCents(workedHours, contractor);
+  }
+
+  /** The double based arithmetic the calculator used before the fixed-point engine. */
+  @Benchmark
+  public BigDecimal doublePayment() {
+    double hourlyRate = contractor.getHourlyRate();
+    int limit = contractor.getMonthlyHourLimit();
+    double overtime = (workedHours - limit) * hourlyRate * contractor.getOvertimeMultiplier();
+    return switch (scenario) {
+      case EMPLOYMENT_AT_LIMIT -> BigDecimal.valueOf(contractor.getMonthlyEarnings());
+      case EMPLOYMENT_UNDER_LIMIT -> BigDecimal.valueOf(workedHours * hourlyRate);
+      case EMPLOYMENT_OVERTIME, B2B_OVERTIME ->
+          BigDecimal.valueOf(contractor.getMonthlyEarnings() + overtime)
+              .setScale(2, RoundingMode.HALF_UP);
+      case MANDATE, B2B_UNDER_LIMIT ->
+          BigDecimal.valueOf(workedHours * hourlyRate).setScale(2, RoundingMode.HALF_UP);
+    };
+  }
+
+  static Contractor contractor(ContractType contractType) {
+    Contractor contractor = new Contractor();
+    contractor.setId(1);
+    contractor.setFirstName("Jan");
+    contractor.setLastName("Kowalski");
+    contractor.setContractType(contractType);
+    contractor.setHourlyRate(31.35);
+    contractor.setMonthlyHourLimit(160);
+    contractor.setMonthlyEarnings(31.35 * 160);
+    contractor.setIsOvertimePaid(true);
+    contractor.setOvertimeMultiplier(1.5);
+    contractor.setContractorHourPrice(42.0);
+    return contractor;
+  }
+}
@@ -0,0 +1,65 @@
+package pl.jarekzegzula.calc;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Month;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import pl.jarekzegzula.contractorBilling.dto.ContractorBillingDTO;
+
+/** Report totals over a month of billing rows. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class CalculatorSumBenchmark {
+
+  @Param({"1000", "100000", "1000000"})
+  public int rows;
+
+  private List<ContractorBillingDTO> billings;
+
+  @Setup
+  public void setUp() {
+    SplittableRandom random = new SplittableRandom(42);
+    this.billings = new ArrayList<>(rows);
+    for (int i = 0; i < rows; i++) {
+      BigDecimal remuneration =
+          BigDecimal.valueOf(random.nextDouble(1000, 10000)).setScale(2, RoundingMode.HALF_UP);
+      BigDecimal charge =
+          remuneration.multiply(BigDecimal.valueOf(1.3)).setScale(2, RoundingMode.HALF_UP);
+      this.billings.add(
+          new ContractorBillingDTO(
+              i + 1,
+              random.nextInt(1, 500),
+              random.nextDouble(80, 200),
+              Year.of(2024),
+              Month.FEBRUARY,
+              remuneration,
+              charge,
+              charge.subtract(remuneration)));
+    }
+  }
+
+  @Benchmark
+  public BigDecimal sumContractorRemuneration() {
+    return Calculator.sumContractorsBillingFinancial(
+        billings, ContractorBillingDTO::getContractorRemuneration);
+  }
+}
@@ -0,0 +1,44 @@
+package pl.jarekzegzula.calc;
+
+import java.time.Month;
+import java.time.Year;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Working hours of a month: the day-by-day loop in {@link Calculator} against the calendar. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WorkingCalendarBenchmark {
+
+  private final WorkingCalendar workingCalendar = new WorkingCalendar(2020, 2030, List.of());
+
+  private final Year year = Year.of(2024);
+
+  private final Month month = Month.FEBRUARY;
+
+  private final YearMonth yearMonth = YearMonth.of(2024, Month.FEBRUARY);
+
+  @Benchmark
+  public Double dayByDayLoop() {
+    return Calculator.countWorkingHoursWithoutWeekendsInMonth(year, month);
+  }
+
+  @Benchmark
+  public Double precomputedCalendar() {
+    return workingCalendar.workingHours(yearMonth);
+  }
+}
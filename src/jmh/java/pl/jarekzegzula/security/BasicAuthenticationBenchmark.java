@@ -0,0 +1,67 @@
+package pl.jarekzegzula.security;
+
+import static pl.jarekzegzula.system.Constants.BCRYPT_PASSWORD_STRENGTH;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import pl.jarekzegzula.user.AppUser;
+
+/**
+ * Authentications per second for a repeated HTTP Basic client, i.e. the per-core ceiling of
+ * requests per second before any controller work. {@code bcrypt} is the previous setup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+public class BasicAuthenticationBenchmark {
+
+  @Param({"bcrypt", "verifiedCredentials"})
+  public String passwordEncoder;
+
+  private DaoAuthenticationProvider authenticationProvider;
+
+  @Setup
+  public void setUp() {
+    PasswordEncoder bcrypt = new BCryptPasswordEncoder(BCRYPT_PASSWORD_STRENGTH);
+    PasswordEncoder encoder =
+        "bcrypt".equals(passwordEncoder)
+            ? bcrypt
+            : new VerifiedCredentialsPasswordEncoder(bcrypt, 10000, Duration.ofMinutes(5));
+
+    AppUser user = new AppUser();
+    user.setId(1);
+    user.setUsername("user");
+    user.setPassword(bcrypt.encode("1234"));
+    user.setRoles("admin");
+    user.setEnabled(true);
+
+    this.authenticationProvider = new DaoAuthenticationProvider();
+    this.authenticationProvider.setPasswordEncoder(encoder);
+    this.authenticationProvider.setUserDetailsService(username -> user);
+  }
+
+  @Benchmark
+  public Authentication authenticate() {
+    return this.authenticationProvider.authenticate(
+        UsernamePasswordAuthenticationToken.unauthenticated("user", "1234"));
+  }
+}
@@ -0,0 +1,141 @@
+package pl.jarekzegzula.system;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Month;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import pl.jarekzegzula.contract.ContractType;
+import pl.jarekzegzula.contractor.Contractor;
+import pl.jarekzegzula.contractorBilling.ContractorBilling;
+import pl.jarekzegzula.contractorBilling.dto.ContractorBillingDTO;
+
+/**
+ * Jackson serialization of the largest {@link Result} payloads: billing DTO lists and contractor
+ * entities with their managed billings. {@code toStream} writes to a discarding stream and
+ * isolates serializer cost; {@code asBytes} includes the response buffer. Bytes allocated per
+ * operation are reported by the gc profiler as {@code gc.alloc.rate.norm}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class ResultSerializationBenchmark {
+
+  private static final int BILLINGS_PER_CONTRACTOR = 12;
+
+  @Param({"100", "10000", "100000"})
+  public int rows;
+
+  private ObjectMapper objectMapper;
+
+  private Result billingDtos;
+
+  private Result contractors;
+
+  @Setup
+  public void setUp() {
+    // Same date handling as the application's Boot-configured mapper.
+    this.objectMapper =
+        Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    SplittableRandom random = new SplittableRandom(42);
+
+    List<ContractorBillingDTO> dtos = new ArrayList<>(rows);
+    for (int i = 0; i < rows; i++) {
+      BigDecimal remuneration = money(random);
+      BigDecimal charge = remuneration.multiply(BigDecimal.valueOf(1.3)).setScale(2, RoundingMode.HALF_UP);
+      dtos.add(
+          new ContractorBillingDTO(
+              i + 1,
+              random.nextInt(1, 500),
+              random.nextDouble(80, 200),
+              Year.of(2024),
+              Month.of(i % 12 + 1),
+              remuneration,
+              charge,
+              charge.subtract(remuneration)));
+    }
+    this.billingDtos = new Result(true, StatusCode.SUCCESS, "Success", dtos);
+
+    int contractorCount = Math.max(1, rows / BILLINGS_PER_CONTRACTOR);
+    List<Contractor> contractorList = new ArrayList<>(contractorCount);
+    for (int i = 0; i < contractorCount; i++) {
+      Contractor contractor = new Contractor();
+      contractor.setId(i + 1);
+      contractor.setFirstName("Jan" + i);
+      contractor.setLastName("Kowalski" + i);
+      contractor.setContractType(ContractType.values()[i % ContractType.values().length]);
+      contractor.setHourlyRate(31.35);
+      contractor.setMonthlyHourLimit(160);
+      contractor.setMonthlyEarnings(31.35 * 160);
+      contractor.setIsOvertimePaid(true);
+      contractor.setOvertimeMultiplier(1.5);
+      contractor.setContractorHourPrice(42.0);
+
+      List<ContractorBilling> billings = new ArrayList<>(BILLINGS_PER_CONTRACTOR);
+      for (int month = 1; month <= BILLINGS_PER_CONTRACTOR; month++) {
+        ContractorBilling billing = new ContractorBilling();
+        billing.setId(i * BILLINGS_PER_CONTRACTOR + month);
+        billing.setContractor(contractor);
+        billing.setWorkedHours(random.nextDouble(80, 200));
+        billing.setYear(Year.of(2024));
+        billing.setMonth(Month.of(month));
+        billing.setContractorRemuneration(money(random));
+        billing.setClientCharge(money(random));
+        billing.setProfit(billing.getClientCharge().subtract(billing.getContractorRemuneration()));
+        billings.add(billing);
+      }
+      contractor.setContractorBillings(billings);
+      contractorList.add(contractor);
+    }
+    this.contractors = new Result(true, StatusCode.SUCCESS, "Success", contractorList);
+  }
+
+  @Benchmark
+  public void billingDtosToStream() throws IOException {
+    objectMapper.writeValue(OutputStream.nullOutputStream(), billingDtos);
+  }
+
+  @Benchmark
+  public byte[] billingDtosAsBytes() throws IOException {
+    return objectMapper.writeValueAsBytes(billingDtos);
+  }
+
+  @Benchmark
+  public void contractorsToStream() throws IOException {
+    objectMapper.writeValue(OutputStream.nullOutputStream(), contractors);
+  }
+
+  @Benchmark
+  public byte[] contractorsAsBytes() throws IOException {
+    return objectMapper.writeValueAsBytes(contractors);
+  }
+
+  private static BigDecimal money(SplittableRandom random) {
+    return BigDecimal.valueOf(random.nextDouble(1000, 10000)).setScale(2, RoundingMode.HALF_UP);
+  }
+}
@@ -0,0 +1,35 @@
+package pl.jarekzegzula.loadtest;
+
+/** Endpoints driven by the load test, named as in {@code load.mix}. */
+enum Endpoint {
+  BILLING("billing", "POST /contractor/billing"),
+  REPORT("report", "GET /contractor/billing/report"),
+  CONTRACTORS("contractors", "GET /contractor"),
+  LOGIN("login", "POST /users/login");
+
+  private final String mixName;
+
+  private final String description;
+
+  Endpoint(String mixName, String description) {
+    this.mixName = mixName;
+    this.description = description;
+  }
+
+  String mixName() {
+    return mixName;
+  }
+
+  String description() {
+    return description;
+  }
+
+  static Endpoint fromName(String name) {
+    for (Endpoint endpoint : values()) {
+      if (endpoint.mixName.equals(name)) {
+        return endpoint;
+      }
+    }
+    throw new IllegalArgumentException("Unknown load.mix endpoint: " + name);
+  }
+}
@@ -0,0 +1,305 @@
+package pl.jarekzegzula.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.time.Month;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import javax.sql.DataSource;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.flywaydb.core.Flyway;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import pl.jarekzegzula.DemoApplication;
+import pl.jarekzegzula.contractor.Contractor;
+
+/**
+ * End-to-end load test. Starts an embedded Postgres, applies the Flyway migrations, seeds
+ * contractors and billings, boots the application on a random port and drives the configured
+ * endpoint mix from {@code load.concurrency} client threads. Latencies are recorded per endpoint
+ * in HdrHistograms, printed as a summary and written as {@code .hgrm} files.
+ *
+ * <p>Run with {@code ./gradlew loadTest}; see {@link LoadTestSettings} for the parameters. Run
+ * it with and without {@code -Dload.virtual-threads=true} to compare server threading modes.
+ */
+public class LoadTest {
+
+  private static final String BASE_URL = "/api/v1";
+
+  private static final String USERNAME = "user";
+
+  private static final String PASSWORD = "1234";
+
+  /** Billings posted during the run start here, far from the seeded and migrated months. */
+  private static final int FIRST_POSTED_YEAR = 2100;
+
+  private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+  private final LoadTestSettings settings;
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  private final HttpClient httpClient =
+      HttpClient.newBuilder()
+          .version(HttpClient.Version.HTTP_1_1)
+          .connectTimeout(Duration.ofSeconds(10))
+          .build();
+
+  private final Map<Endpoint, Histogram> histograms = new EnumMap<>(Endpoint.class);
+
+  private final Map<Endpoint, LongAdder> errors = new EnumMap<>(Endpoint.class);
+
+  private final int totalWeight;
+
+  private final AtomicInteger postedBillings = new AtomicInteger();
+
+  private List<Contractor> contractors;
+
+  private String apiUrl;
+
+  private String accessToken;
+
+  LoadTest(LoadTestSettings settings) {
+    this.settings = settings;
+    for (Endpoint endpoint : settings.mix().keySet()) {
+      histograms.put(endpoint, new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3));
+      errors.put(endpoint, new LongAdder());
+    }
+    this.totalWeight = settings.mix().values().stream().mapToInt(Integer::intValue).sum();
+  }
+
+  public static void main(String[] args) throws Exception {
+    new LoadTest(LoadTestSettings.fromSystemProperties()).run();
+  }
+
+  void run() throws Exception {
+    try (EmbeddedPostgres postgres = EmbeddedPostgres.builder().start()) {
+      DataSource dataSource = postgres.getPostgresDatabase();
+      migrate(dataSource);
+
+      System.out.printf(
+          "Seeding %d contractors and %d billings%n", settings.contractors(), settings.billings());
+      this.contractors =
+          new LoadTestSeeder(dataSource).seed(settings.contractors(), settings.billings());
+
+      try (ConfigurableApplicationContext application =
+          startApplication(
+              postgres.getJdbcUrl("postgres", "postgres"), settings.virtualThreads())) {
+        this.apiUrl =
+            "http://localhost:"
+                + application.getEnvironment().getProperty("local.server.port")
+                + BASE_URL;
+        this.accessToken = login();
+
+        System.out.printf("Warming up for %s%n", settings.warmup());
+        drive(settings.warmup());
+        histograms.values().forEach(Histogram::reset);
+        errors.values().forEach(LongAdder::reset);
+
+        System.out.printf(
+            "Running %s with %d clients, %s server threads, mix %s%n",
+            settings.duration(),
+            settings.concurrency(),
+            settings.virtualThreads() ? "virtual" : "platform",
+            settings.mix());
+        long started = System.nanoTime();
+        drive(settings.duration());
+        report(Duration.ofNanos(System.nanoTime() - started));
+      }
+    }
+  }
+
+  private static void migrate(DataSource dataSource) {
+    Flyway.configure()
+        .dataSource(dataSource)
+        .schemas("contractor_management")
+        .defaultSchema("contractor_management")
+        .load()
+        .migrate();
+  }
+
+  private static ConfigurableApplicationContext startApplication(
+      String jdbcUrl, boolean virtualThreads) {
+    return new SpringApplicationBuilder(DemoApplication.class)
+        .properties(
+            "server.port=0",
+            "spring.datasource.url=" + jdbcUrl,
+            "spring.datasource.username=postgres",
+            "spring.datasource.password=postgres",
+            "spring.flyway.enabled=false",
+            "spring.sql.init.mode=never",
+            "spring.jpa.show-sql=false",
+            "spring.jpa.properties.hibernate.format_sql=false",
+            "app.threads.virtual.enabled=" + virtualThreads)
+        .run();
+  }
+
+  private void drive(Duration duration) throws InterruptedException {
+    long deadline = System.nanoTime() + duration.toNanos();
+    ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor();
+    for (int i = 0; i < settings.concurrency(); i++) {
+      clients.submit(
+          () -> {
+            while (System.nanoTime() < deadline) {
+              call(pickEndpoint());
+            }
+          });
+    }
+    clients.shutdown();
+    clients.awaitTermination(duration.toSeconds() + 60, TimeUnit.SECONDS);
+  }
+
+  private Endpoint pickEndpoint() {
+    int pick = ThreadLocalRandom.current().nextInt(totalWeight);
+    for (Map.Entry<Endpoint, Integer> entry : settings.mix().entrySet()) {
+      pick -= entry.getValue();
+      if (pick < 0) {
+        return entry.getKey();
+      }
+    }
+    throw new IllegalStateException("Endpoint mix is empty");
+  }
+
+  private void call(Endpoint endpoint) {
+    HttpRequest request = request(endpoint);
+    long started = System.nanoTime();
+    try {
+      HttpResponse<byte[]> response =
+          httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+      if (response.statusCode() / 100 != 2) {
+        errors.get(endpoint).increment();
+      }
+    } catch (IOException ex) {
+      errors.get(endpoint).increment();
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      return;
+    }
+    long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - started);
+    histograms.get(endpoint).recordValue(Math.min(micros, HIGHEST_TRACKABLE_MICROS));
+  }
+
+  private HttpRequest request(Endpoint endpoint) {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    return switch (endpoint) {
+      case BILLING -> {
+        int sequence = postedBillings.getAndIncrement();
+        Contractor contractor = contractors.get(sequence % contractors.size());
+        int period = sequence / contractors.size();
+        String body =
+            String.format(
+                Locale.ROOT,
+                "{\"id\":%d,\"workedHours\":%.1f,\"year\":%d,\"month\":\"%s\"}",
+                contractor.getId(),
+                160.0 + random.nextInt(40),
+                FIRST_POSTED_YEAR + period / 12,
+                Month.of(period % 12 + 1).name());
+        yield bearer("/contractor/billing")
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(body))
+            .build();
+      }
+      case REPORT -> {
+        int seededMonths = Math.max(1, settings.billings() / contractors.size());
+        int period = random.nextInt(seededMonths);
+        yield bearer(
+                "/contractor/billing/report?year=%d&month=%s"
+                    .formatted(
+                        LoadTestSeeder.FIRST_YEAR + period / 12, Month.of(period % 12 + 1).name()))
+            .GET()
+            .build();
+      }
+      case CONTRACTORS -> bearer("/contractor").GET().build();
+      case LOGIN -> HttpRequest.newBuilder(URI.create(apiUrl + "/users/login"))
+          .header("Authorization", basicAuthorization())
+          .POST(HttpRequest.BodyPublishers.noBody())
+          .build();
+    };
+  }
+
+  private HttpRequest.Builder bearer(String path) {
+    return HttpRequest.newBuilder(URI.create(apiUrl + path))
+        .header("Authorization", "Bearer " + accessToken);
+  }
+
+  private static String basicAuthorization() {
+    return "Basic "
+        + Base64.getEncoder()
+            .encodeToString((USERNAME + ":" + PASSWORD).getBytes(StandardCharsets.UTF_8));
+  }
+
+  private String login() throws IOException, InterruptedException {
+    HttpResponse<String> response =
+        httpClient.send(
+            HttpRequest.newBuilder(URI.create(apiUrl + "/users/login"))
+                .header("Authorization", basicAuthorization())
+                .POST(HttpRequest.BodyPublishers.noBody())
+                .build(),
+            HttpResponse.BodyHandlers.ofString());
+    JsonNode result = objectMapper.readTree(response.body());
+    return result.path("data").path("access_token").asText();
+  }
+
+  private void report(Duration elapsed) throws IOException {
+    Files.createDirectories(settings.reportDirectory());
+
+    System.out.printf(
+        "%n%-32s %9s %7s %9s %9s %9s %9s %9s %9s%n",
+        "endpoint", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms",
+        "max ms");
+
+    List<Histogram> all = new ArrayList<>(histograms.values());
+    for (Map.Entry<Endpoint, Histogram> entry : histograms.entrySet()) {
+      Endpoint endpoint = entry.getKey();
+      Histogram histogram = entry.getValue();
+      printRow(endpoint.description(), histogram, errors.get(endpoint).sum(), elapsed);
+
+      try (PrintStream out =
+          new PrintStream(
+              Files.newOutputStream(
+                  settings.reportDirectory().resolve(endpoint.mixName() + ".hgrm")))) {
+        histogram.outputPercentileDistribution(out, 1000.0);
+      }
+    }
+
+    Histogram total = new Histogram(HIGHEST_TRACKABLE_MICROS, 3);
+    all.forEach(total::add);
+    printRow("total", total, errors.values().stream().mapToLong(LongAdder::sum).sum(), elapsed);
+    System.out.printf("%nHistograms written to %s%n", settings.reportDirectory().toAbsolutePath());
+  }
+
+  private static void printRow(String name, Histogram histogram, long errors, Duration elapsed) {
+    System.out.printf(
+        "%-32s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+        name,
+        histogram.getTotalCount(),
+        errors,
+        histogram.getTotalCount() / (elapsed.toNanos() / 1e9),
+        histogram.getValueAtPercentile(50) / 1000.0,
+        histogram.getValueAtPercentile(90) / 1000.0,
+        histogram.getValueAtPercentile(99) / 1000.0,
+        histogram.getValueAtPercentile(99.9) / 1000.0,
+        histogram.getMaxValue() / 1000.0);
+  }
+}
@@ -0,0 +1,129 @@
+package pl.jarekzegzula.loadtest;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Month;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import javax.sql.DataSource;
+import pl.jarekzegzula.calc.Calculator;
+import pl.jarekzegzula.contract.ContractType;
+import pl.jarekzegzula.contractor.Contractor;
+
+/**
+ * Inserts generated contractors and billings with JDBC batches. Billing {@code i} belongs to
+ * contractor {@code i % contractors} and is placed in consecutive months from {@link #FIRST_YEAR},
+ * so every (contractor, year, month) is unique.
+ */
+class LoadTestSeeder {
+
+  static final int FIRST_YEAR = 2010;
+
+  private static final int BATCH_SIZE = 1000;
+
+  private final DataSource dataSource;
+
+  LoadTestSeeder(DataSource dataSource) {
+    this.dataSource = dataSource;
+  }
+
+  List<Contractor> seed(int contractorCount, int billingCount) throws SQLException {
+    SplittableRandom random = new SplittableRandom(42);
+
+    try (Connection connection = dataSource.getConnection()) {
+      connection.setAutoCommit(false);
+      List<Contractor> contractors = insertContractors(connection, contractorCount, random);
+      insertBillings(connection, contractors, billingCount, random);
+      connection.commit();
+      return contractors;
+    }
+  }
+
+  private List<Contractor> insertContractors(
+      Connection connection, int contractorCount, SplittableRandom random) throws SQLException {
+    List<Contractor> contractors = new ArrayList<>(contractorCount);
+
+    String sql =
+        "INSERT INTO contractor_management.contractor (first_name, last_name, contract_type,"
+            + " monthly_earnings, hourly_rate, monthly_hour_limit, contractor_hour_price,"
+            + " overtime_multiplier, is_overtime_paid) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    try (PreparedStatement statement = connection.prepareStatement(sql, new String[] {"id"})) {
+      for (int i = 0; i < contractorCount; i++) {
+        Contractor contractor = new Contractor();
+        contractor.setFirstName("Load" + i);
+        contractor.setLastName("Contractor" + i);
+        contractor.setContractType(ContractType.values()[i % ContractType.values().length]);
+        contractor.setHourlyRate(Math.round(random.nextDouble(25, 120) * 100) / 100.0);
+        contractor.setMonthlyHourLimit(160);
+        contractor.setMonthlyEarnings(
+            Calculator.calculateMonthlyEarningsForContractor(
+                contractor.getHourlyRate(), contractor.getMonthlyHourLimit()));
+        contractor.setContractorHourPrice(contractor.getHourlyRate() * 1.3);
+        contractor.setOvertimeMultiplier(1.5);
+        contractor.setIsOvertimePaid(i % 2 == 0);
+        contractors.add(contractor);
+
+        statement.setString(1, contractor.getFirstName());
+        statement.setString(2, contractor.getLastName());
+        statement.setString(3, contractor.getContractType().name());
+        statement.setDouble(4, contractor.getMonthlyEarnings());
+        statement.setDouble(5, contractor.getHourlyRate());
+        statement.setInt(6, contractor.getMonthlyHourLimit());
+        statement.setDouble(7, contractor.getContractorHourPrice());
+        statement.setDouble(8, contractor.getOvertimeMultiplier());
+        statement.setBoolean(9, contractor.getIsOvertimePaid());
+        statement.addBatch();
+      }
+      statement.executeBatch();
+
+      try (ResultSet keys = statement.getGeneratedKeys()) {
+        for (Contractor contractor : contractors) {
+          keys.next();
+          contractor.setId(keys.getInt(1));
+        }
+      }
+    }
+    return contractors;
+  }
+
+  private void insertBillings(
+      Connection connection,
+      List<Contractor> contractors,
+      int billingCount,
+      SplittableRandom random)
+      throws SQLException {
+    String sql =
+        "INSERT INTO contractor_management.contractor_billing (contractor_id, worked_hours, year,"
+            + " month, contractor_remuneration, client_charge, profit)"
+            + " VALUES (?, ?, ?, ?, ?, ?, ?)";
+    try (PreparedStatement statement = connection.prepareStatement(sql)) {
+      for (int i = 0; i < billingCount; i++) {
+        Contractor contractor = contractors.get(i % contractors.size());
+        int period = i / contractors.size();
+        double workedHours = Math.round(random.nextDouble(80, 200) * 2) / 2.0;
+
+        BigDecimal remuneration = Calculator.calculateContractorPayment(workedHours, contractor);
+        BigDecimal charge =
+            Calculator.calculateClientsChargeFromContractorHours(workedHours, contractor);
+
+        statement.setInt(1, contractor.getId());
+        statement.setDouble(2, workedHours);
+        statement.setInt(3, FIRST_YEAR + period / 12);
+        statement.setString(4, Month.of(period % 12 + 1).name());
+        statement.setBigDecimal(5, remuneration);
+        statement.setBigDecimal(6, charge);
+        statement.setBigDecimal(7, Calculator.calculateProfit(charge, remuneration));
+        statement.addBatch();
+
+        if ((i + 1) % BATCH_SIZE == 0) {
+          statement.executeBatch();
+        }
+      }
+      statement.executeBatch();
+    }
+  }
+}
@@ -0,0 +1,52 @@
+package pl.jarekzegzula.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Load test parameters, read from {@code load.*} system properties so they can be passed to the
+ * Gradle task, e.g. {@code ./gradlew loadTest -Dload.concurrency=64 -Dload.mix=report:50,login:50}.
+ */
+record LoadTestSettings(
+    int contractors,
+    int billings,
+    int concurrency,
+    boolean virtualThreads,
+    Duration warmup,
+    Duration duration,
+    Map<Endpoint, Integer> mix,
+    Path reportDirectory) {
+
+  static LoadTestSettings fromSystemProperties() {
+    return new LoadTestSettings(
+        Integer.getInteger("load.contractors", 1000),
+        Integer.getInteger("load.billings", 100000),
+        Integer.getInteger("load.concurrency", 32),
+        Boolean.getBoolean("load.virtual-threads"),
+        Duration.ofSeconds(Long.getLong("load.warmup-seconds", 15L)),
+        Duration.ofSeconds(Long.getLong("load.duration-seconds", 60L)),
+        parseMix(System.getProperty("load.mix", "billing:20,report:40,contractors:30,login:10")),
+        Path.of(System.getProperty("load.report-dir", "build/reports/load-test")));
+  }
+
+  /** Parses {@code endpoint:weight} pairs, e.g. {@code report:40,login:10}. */
+  static Map<Endpoint, Integer> parseMix(String mix) {
+    Map<Endpoint, Integer> weights = new EnumMap<>(Endpoint.class);
+    for (String entry : mix.split(",")) {
+      String[] parts = entry.trim().split(":");
+      if (parts.length != 2) {
+        throw new IllegalArgumentException("Invalid load.mix entry: " + entry);
+      }
+      int weight = Integer.parseInt(parts[1].trim());
+      if (weight > 0) {
+        weights.put(Endpoint.fromName(parts[0].trim()), weight);
+      }
+    }
+    if (weights.isEmpty()) {
+      throw new IllegalArgumentException("load.mix selects no endpoints: " + mix);
+    }
+    return weights;
+  }
+}
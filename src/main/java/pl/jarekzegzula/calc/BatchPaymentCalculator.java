@@ -0,0 +1,177 @@
+package pl.jarekzegzula.calc;
+
+import static pl.jarekzegzula.calc.FixedPointMoney.*;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import pl.jarekzegzula.contract.ContractType;
+import pl.jarekzegzula.system.exception.IllegalContractTypeArgument;
+
+/**
+ * Calculates many billings at once with the same rounding rules as {@link FixedPointMoney}. Rows
+ * are grouped by contract type first, so each loop runs one formula over primitive arrays without
+ * dispatching per row; the remaining choices inside a formula are plain selects. Batches of at
+ * least {@link #PARALLEL_THRESHOLD} rows can be split across the common {@link ForkJoinPool}.
+ */
+public final class BatchPaymentCalculator {
+
+  public static final int PARALLEL_THRESHOLD = 16_384;
+
+  private static final int CONTRACT_TYPE_CODES = ContractType.values().length + 1;
+
+  private BatchPaymentCalculator() {}
+
+  public static PaymentBatchResult calculate(PaymentBatch batch) {
+    return calculate(batch, false);
+  }
+
+  public static PaymentBatchResult calculate(PaymentBatch batch, boolean parallel) {
+    int size = batch.size();
+    PaymentBatchResult result = new PaymentBatchResult(size);
+
+    int[] offsets = new int[CONTRACT_TYPE_CODES + 1];
+    int[] rows = groupByContractType(batch.contractTypes(), offsets);
+
+    for (ContractType contractType : ContractType.values()) {
+      int code = contractType.getValue();
+      int from = offsets[code];
+      int to = offsets[code + 1];
+      if (parallel && to - from >= PARALLEL_THRESHOLD) {
+        ForkJoinPool.commonPool()
+            .invoke(new CalculateRange(contractType, batch, rows, from, to, result));
+      } else {
+        calculateRange(contractType, batch, rows, from, to, result);
+      }
+    }
+    return result;
+  }
+
+  /** Counting sort of row indexes by contract type code; offsets[code] is where a group starts. */
+  private static int[] groupByContractType(byte[] contractTypes, int[] offsets) {
+    for (byte code : contractTypes) {
+      if (code <= 0 || code >= CONTRACT_TYPE_CODES) {
+        throw new IllegalContractTypeArgument("Invalid ContractType value: " + code);
+      }
+      offsets[code + 1]++;
+    }
+    for (int code = 1; code < offsets.length; code++) {
+      offsets[code] += offsets[code - 1];
+    }
+    int[] next = offsets.clone();
+    int[] rows = new int[contractTypes.length];
+    for (int row = 0; row < contractTypes.length; row++) {
+      rows[next[contractTypes[row]]++] = row;
+    }
+    return rows;
+  }
+
+  private static void calculateRange(
+      ContractType contractType,
+      PaymentBatch batch,
+      int[] rows,
+      int from,
+      int to,
+      PaymentBatchResult result) {
+    switch (contractType) {
+      case CONTRACT_OF_MANDATE -> mandate(batch, rows, from, to, result);
+      case CONTRACT_OF_EMPLOYMENT -> employment(batch, rows, from, to, result);
+      case CONTRACT_B2B -> b2b(batch, rows, from, to, result);
+    }
+  }
+
+  private static void mandate(
+      PaymentBatch batch, int[] rows, int from, int to, PaymentBatchResult result) {
+    for (int i = from; i < to; i++) {
+      int row = rows[i];
+      long hours = toThousandths(batch.workedHours()[row]);
+      long payment = hoursTimesRate(hours, toCents(batch.hourlyRates()[row]));
+      store(batch, result, row, hours, payment);
+    }
+  }
+
+  private static void employment(
+      PaymentBatch batch, int[] rows, int from, int to, PaymentBatchResult result) {
+    for (int i = from; i < to; i++) {
+      int row = rows[i];
+      long hours = toThousandths(batch.workedHours()[row]);
+      long rate = toCents(batch.hourlyRates()[row]);
+      long limit = batch.monthlyHourLimits()[row] * THOUSANDTHS;
+      long salaryWithOvertime =
+          toCents(batch.monthlyEarnings()[row])
+              + overtime(Math.max(hours - limit, 0), rate, batch.overtimeMultipliers()[row]);
+      long payment = hours < limit ? hoursTimesRate(hours, rate) : salaryWithOvertime;
+      store(batch, result, row, hours, payment);
+    }
+  }
+
+  private static void b2b(
+      PaymentBatch batch, int[] rows, int from, int to, PaymentBatchResult result) {
+    for (int i = from; i < to; i++) {
+      int row = rows[i];
+      long hours = toThousandths(batch.workedHours()[row]);
+      long rate = toCents(batch.hourlyRates()[row]);
+      long limit = batch.monthlyHourLimits()[row] * THOUSANDTHS;
+      long overtimeHours = batch.overtimePaid()[row] ? Math.max(hours - limit, 0) : 0;
+      long salaryWithOvertime =
+          toCents(batch.monthlyEarnings()[row])
+              + overtime(overtimeHours, rate, batch.overtimeMultipliers()[row]);
+      long payment = overtimeHours > 0 ? salaryWithOvertime : hoursTimesRate(hours, rate);
+      store(batch, result, row, hours, payment);
+    }
+  }
+
+  private static long overtime(long overtimeHours, long rateCents, double multiplier) {
+    return divideHalfUp(
+        overtimeHours * rateCents * toThousandths(multiplier), THOUSANDTHS * THOUSANDTHS);
+  }
+
+  private static void store(
+      PaymentBatch batch, PaymentBatchResult result, int row, long hours, long payment) {
+    long charge = hoursTimesRate(hours, toCents(batch.hourPrices()[row]));
+    result.remunerationCents()[row] = payment;
+    result.clientChargeCents()[row] = charge;
+    result.profitCents()[row] = charge - payment;
+  }
+
+  private static final class CalculateRange extends RecursiveAction {
+
+    private final ContractType contractType;
+
+    private final PaymentBatch batch;
+
+    private final int[] rows;
+
+    private final int from;
+
+    private final int to;
+
+    private final PaymentBatchResult result;
+
+    private CalculateRange(
+        ContractType contractType,
+        PaymentBatch batch,
+        int[] rows,
+        int from,
+        int to,
+        PaymentBatchResult result) {
+      this.contractType = contractType;
+      this.batch = batch;
+      this.rows = rows;
+      this.from = from;
+      this.to = to;
+      this.result = result;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from <= PARALLEL_THRESHOLD) {
+        calculateRange(contractType, batch, rows, from, to, result);
+        return;
+      }
+      int middle = (from + to) >>> 1;
+      invokeAll(
+          new CalculateRange(contractType, batch, rows, from, middle, result),
+          new CalculateRange(contractType, batch, rows, middle, to, result));
+    }
+  }
+}
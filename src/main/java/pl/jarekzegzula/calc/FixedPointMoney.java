@@ -0,0 +1,126 @@
+package pl.jarekzegzula.calc;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import pl.jarekzegzula.contractor.Contractor;
+
+/**
+ * Payment arithmetic on scaled longs. Money is held in cents, hours and the overtime multiplier in
+ * thousandths, so products are exact and only the final division rounds. {@link BigDecimal} is
+ * created only when a result leaves the calculator.
+ *
+ * <p>Rounding rules, all {@link RoundingMode#HALF_UP} to the cent:
+ *
+ * <ul>
+ *   <li>contract of mandate: hours times hourly rate;
+ *   <li>contract of employment: the monthly salary at exactly the hour limit, hours times hourly
+ *       rate below it, and the monthly salary plus rounded overtime above it;
+ *   <li>B2B: the monthly salary plus rounded overtime above the limit when overtime is paid, hours
+ *       times hourly rate otherwise;
+ *   <li>client charge: hours times the contractor's hour price.
+ * </ul>
+ *
+ * Contractor terms and billed hours are stored as doubles. Requests are validated against the
+ * digit limits below, at most two decimals for money and three for hours and the multiplier, so
+ * converting them to cents and thousandths is exact and the largest overtime product still fits
+ * in a long. The monthly salary of a validated contractor is a whole number of cents, so adding
+ * the rounded overtime to it gives the same cent as rounding their sum once. The CSV import
+ * prices its staged rows with the same rules in SQL, so a change here must be made there too.
+ */
+public final class FixedPointMoney {
+
+  public static final int MONEY_SCALE = 2;
+
+  public static final int MONEY_INTEGER_DIGITS = 5;
+
+  public static final int HOURS_SCALE = 3;
+
+  public static final int HOURS_INTEGER_DIGITS = 4;
+
+  public static final int MULTIPLIER_SCALE = 3;
+
+  public static final int MULTIPLIER_INTEGER_DIGITS = 1;
+
+  static final long CENTS = 100;
+
+  static final long THOUSANDTHS = 1000;
+
+  private static final double HOURS_UPPER_BOUND = Math.pow(10, HOURS_INTEGER_DIGITS);
+
+  private FixedPointMoney() {}
+
+  public static long contractorPaymentCents(double workedHours, Contractor contractor) {
+    long hours = toThousandths(workedHours);
+    return switch (contractor.getContractType()) {
+      case CONTRACT_OF_MANDATE -> mandatePaymentCents(hours, contractor);
+      case CONTRACT_OF_EMPLOYMENT -> employmentPaymentCents(hours, contractor);
+      case CONTRACT_B2B -> b2bPaymentCents(hours, contractor);
+    };
+  }
+
+  public static long clientChargeCents(double workedHours, Contractor contractor) {
+    return hoursTimesRate(toThousandths(workedHours), toCents(contractor.getContractorHourPrice()));
+  }
+
+  static long mandatePaymentCents(long hours, Contractor contractor) {
+    return hoursTimesRate(hours, toCents(contractor.getHourlyRate()));
+  }
+
+  static long employmentPaymentCents(long hours, Contractor contractor) {
+    long limit = contractor.getMonthlyHourLimit() * THOUSANDTHS;
+    if (hours == limit) {
+      return toCents(contractor.getMonthlyEarnings());
+    } else if (hours < limit) {
+      return hoursTimesRate(hours, toCents(contractor.getHourlyRate()));
+    }
+    return toCents(contractor.getMonthlyEarnings()) + overtimeCents(hours - limit, contractor);
+  }
+
+  static long b2bPaymentCents(long hours, Contractor contractor) {
+    long limit = contractor.getMonthlyHourLimit() * THOUSANDTHS;
+    if (hours > limit && contractor.getIsOvertimePaid()) {
+      return toCents(contractor.getMonthlyEarnings()) + overtimeCents(hours - limit, contractor);
+    }
+    return hoursTimesRate(hours, toCents(contractor.getHourlyRate()));
+  }
+
+  private static long overtimeCents(long overtimeHours, Contractor contractor) {
+    long product =
+        overtimeHours
+            * toCents(contractor.getHourlyRate())
+            * toThousandths(contractor.getOvertimeMultiplier());
+    return divideHalfUp(product, THOUSANDTHS * THOUSANDTHS);
+  }
+
+  static long hoursTimesRate(long hours, long rateCents) {
+    return divideHalfUp(hours * rateCents, THOUSANDTHS);
+  }
+
+  static long divideHalfUp(long dividend, long divisor) {
+    long half = divisor / 2;
+    return dividend >= 0 ? (dividend + half) / divisor : -((-dividend + half) / divisor);
+  }
+
+  public static long toCents(double value) {
+    return Math.round(value * CENTS);
+  }
+
+  public static long toCents(BigDecimal value) {
+    return value.setScale(MONEY_SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+  }
+
+  static long toThousandths(double value) {
+    return Math.round(value * THOUSANDTHS);
+  }
+
+  /** Whether billed hours fit {@link #HOURS_INTEGER_DIGITS} and {@link #HOURS_SCALE} digits. */
+  public static boolean isValidHours(double value) {
+    return value >= 0
+        && value < HOURS_UPPER_BOUND
+        && toThousandths(value) / (double) THOUSANDTHS == value;
+  }
+
+  public static BigDecimal toBigDecimal(long cents) {
+    return BigDecimal.valueOf(cents, MONEY_SCALE);
+  }
+}
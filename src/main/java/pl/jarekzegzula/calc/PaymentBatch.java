@@ -0,0 +1,79 @@
+package pl.jarekzegzula.calc;
+
+import java.util.List;
+import java.util.function.IntFunction;
+import java.util.function.IntToDoubleFunction;
+import pl.jarekzegzula.contract.ContractType;
+import pl.jarekzegzula.contractor.Contractor;
+
+/**
+ * Input of {@link BatchPaymentCalculator}, one array per field and one index per billing. Contract
+ * types are given by their {@link ContractType#getValue()} code. Overtime fields may be zero or
+ * {@code false} for contracts that never pay overtime.
+ */
+public record PaymentBatch(
+    byte[] contractTypes,
+    double[] workedHours,
+    double[] hourlyRates,
+    double[] monthlyEarnings,
+    int[] monthlyHourLimits,
+    double[] overtimeMultipliers,
+    boolean[] overtimePaid,
+    double[] hourPrices) {
+
+  public PaymentBatch {
+    int size = contractTypes.length;
+    if (workedHours.length != size
+        || hourlyRates.length != size
+        || monthlyEarnings.length != size
+        || monthlyHourLimits.length != size
+        || overtimeMultipliers.length != size
+        || overtimePaid.length != size
+        || hourPrices.length != size) {
+      throw new IllegalArgumentException("All payment batch arrays must have the same length");
+    }
+  }
+
+  /** Copies the terms of each billing's contractor into a batch. */
+  public static PaymentBatch of(List<Double> workedHours, List<Contractor> contractors) {
+    if (contractors.size() != workedHours.size()) {
+      throw new IllegalArgumentException("Expected one contractor per worked hours entry");
+    }
+    return of(workedHours.size(), workedHours::get, contractors::get);
+  }
+
+  /** Builds a batch of {@code size} billings, reading each row's hours and contractor by index. */
+  public static PaymentBatch of(
+      int size, IntToDoubleFunction workedHours, IntFunction<Contractor> contractors) {
+    PaymentBatch batch =
+        new PaymentBatch(
+            new byte[size],
+            new double[size],
+            new double[size],
+            new double[size],
+            new int[size],
+            new double[size],
+            new boolean[size],
+            new double[size]);
+    for (int i = 0; i < size; i++) {
+      Contractor contractor = contractors.apply(i);
+      batch.contractTypes[i] = contractor.getContractType().getValue().byteValue();
+      batch.workedHours[i] = workedHours.applyAsDouble(i);
+      batch.hourlyRates[i] = contractor.getHourlyRate();
+      batch.monthlyEarnings[i] = valueOrZero(contractor.getMonthlyEarnings());
+      batch.monthlyHourLimits[i] = contractor.getMonthlyHourLimit();
+      batch.overtimeMultipliers[i] = valueOrZero(contractor.getOvertimeMultiplier());
+      batch.overtimePaid[i] = Boolean.TRUE.equals(contractor.getIsOvertimePaid());
+      batch.hourPrices[i] = contractor.getContractorHourPrice();
+    }
+    return batch;
+  }
+
+  public int size() {
+    return contractTypes.length;
+  }
+
+  private static double valueOrZero(Double value) {
+    return value == null ? 0 : value;
+  }
+}
@@ -0,0 +1,10 @@
+package pl.jarekzegzula.calc;
+
+/** Output of {@link BatchPaymentCalculator}, in cents and indexed like the input batch. */
+public record PaymentBatchResult(
+    long[] remunerationCents, long[] clientChargeCents, long[] profitCents) {
+
+  PaymentBatchResult(int size) {
+    this(new long[size], new long[size], new long[size]);
+  }
+}
@@ -0,0 +1,103 @@
+package pl.jarekzegzula.calc;
+
+import static pl.jarekzegzula.system.Constants.WORKDAY;
+
+import java.sql.Date;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Collection;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Working days per month, precomputed at startup for a configured range of years. Each month is
+ * an int bitmask where bit {@code d - 1} is set when day {@code d} is neither a weekend nor a
+ * public holiday from the {@code public_holiday} table. Months outside the range are computed on
+ * demand, without holidays.
+ */
+@Component
+public class WorkingCalendar {
+
+  private final int firstYear;
+
+  private final int lastYear;
+
+  private final int[] workingDayMasks;
+
+  @Autowired
+  public WorkingCalendar(
+      JdbcTemplate jdbcTemplate,
+      @Value("${working-calendar.first-year}") int firstYear,
+      @Value("${working-calendar.last-year}") int lastYear) {
+    this(
+        firstYear,
+        lastYear,
+        jdbcTemplate.queryForList(
+                "SELECT holiday_date FROM contractor_management.public_holiday"
+                    + " WHERE holiday_date BETWEEN ? AND ?",
+                Date.class,
+                Date.valueOf(LocalDate.of(firstYear, 1, 1)),
+                Date.valueOf(LocalDate.of(lastYear, 12, 31)))
+            .stream()
+            .map(Date::toLocalDate)
+            .toList());
+  }
+
+  public WorkingCalendar(int firstYear, int lastYear, Collection<LocalDate> holidays) {
+    this.firstYear = firstYear;
+    this.lastYear = lastYear;
+    this.workingDayMasks = new int[(lastYear - firstYear + 1) * 12];
+
+    for (int year = firstYear; year <= lastYear; year++) {
+      for (int month = 1; month <= 12; month++) {
+        YearMonth yearMonth = YearMonth.of(year, month);
+        this.workingDayMasks[indexOf(yearMonth)] = weekdayMask(yearMonth);
+      }
+    }
+    for (LocalDate holiday : holidays) {
+      YearMonth yearMonth = YearMonth.from(holiday);
+      if (isInRange(yearMonth)) {
+        this.workingDayMasks[indexOf(yearMonth)] &= ~(1 << (holiday.getDayOfMonth() - 1));
+      }
+    }
+  }
+
+  public int workingDayMask(YearMonth yearMonth) {
+    return isInRange(yearMonth) ? this.workingDayMasks[indexOf(yearMonth)] : weekdayMask(yearMonth);
+  }
+
+  public boolean isWorkingDay(LocalDate date) {
+    return (workingDayMask(YearMonth.from(date)) & (1 << (date.getDayOfMonth() - 1))) != 0;
+  }
+
+  public int countWorkingDays(YearMonth yearMonth) {
+    return Integer.bitCount(workingDayMask(yearMonth));
+  }
+
+  public Double workingHours(YearMonth yearMonth) {
+    return (double) countWorkingDays(yearMonth) * WORKDAY;
+  }
+
+  private boolean isInRange(YearMonth yearMonth) {
+    return yearMonth.getYear() >= this.firstYear && yearMonth.getYear() <= this.lastYear;
+  }
+
+  private int indexOf(YearMonth yearMonth) {
+    return (yearMonth.getYear() - this.firstYear) * 12 + yearMonth.getMonthValue() - 1;
+  }
+
+  private static int weekdayMask(YearMonth yearMonth) {
+    int mask = 0;
+    int dayOfWeek = yearMonth.atDay(1).getDayOfWeek().getValue();
+    for (int day = 1; day <= yearMonth.lengthOfMonth(); day++) {
+      if (dayOfWeek < DayOfWeek.SATURDAY.getValue()) {
+        mask |= 1 << (day - 1);
+      }
+      dayOfWeek = dayOfWeek % 7 + 1;
+    }
+    return mask;
+  }
+}
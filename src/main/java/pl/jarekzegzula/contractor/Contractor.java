@@ -6,6 +6,8 @@ import com.fasterxml.jackson.annotation.JsonManagedReference;
 import jakarta.persistence.*;
 import java.util.List;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import pl.jarekzegzula.contract.ContractType;
 import pl.jarekzegzula.contractorBilling.ContractorBilling;
 import pl.jarekzegzula.requests.addNewRequest.NewContractorRequest;
@@ -17,6 +19,8 @@ import pl.jarekzegzula.requests.addNewRequest.NewContractorRequest;
 @RequiredArgsConstructor
 @Entity
 @Table
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class Contractor {
     @Id
     @SequenceGenerator(
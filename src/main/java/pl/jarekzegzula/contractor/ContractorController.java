@@ -21,7 +21,13 @@ public class ContractorController {
   }
 
   @GetMapping()
-  public Result getAllContractors() {
+  public Result getAllContractors(
+      @RequestParam(value = "after", required = false) Integer after,
+      @RequestParam(value = "limit", required = false) Integer limit) {
+    if (after != null || limit != null) {
+      return new Result(
+          true, StatusCode.SUCCESS, "Success", contractorService.getContractorsPage(after, limit));
+    }
     return new Result(true, StatusCode.SUCCESS, "Success", contractorService.getContractors());
   }
 
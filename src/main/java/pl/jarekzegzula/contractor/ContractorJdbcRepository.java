@@ -0,0 +1,53 @@
+package pl.jarekzegzula.contractor;
+
+import java.util.Optional;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Contractor writes that need PostgreSQL specific SQL. Runs on the connection of the surrounding
+ * JPA transaction.
+ */
+@Repository
+public class ContractorJdbcRepository {
+
+  private static final String INSERT_IF_ABSENT =
+      """
+      INSERT INTO contractor_management.contractor
+          (first_name, last_name, contract_type, monthly_earnings, hourly_rate,
+           monthly_hour_limit, contractor_hour_price, overtime_multiplier, is_overtime_paid)
+      VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+      ON CONFLICT (first_name, last_name) DO NOTHING
+      RETURNING id
+      """;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  public ContractorJdbcRepository(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  /**
+   * Inserts the contractor in one statement, relying on the unique (first_name, last_name) index
+   * instead of a prior existence check.
+   *
+   * @return the generated id, or empty when a contractor with that name already exists
+   */
+  public Optional<Integer> insertIfAbsent(Contractor contractor) {
+    return jdbcTemplate
+        .queryForList(
+            INSERT_IF_ABSENT,
+            Integer.class,
+            contractor.getFirstName(),
+            contractor.getLastName(),
+            contractor.getContractType().name(),
+            contractor.getMonthlyEarnings(),
+            contractor.getHourlyRate(),
+            contractor.getMonthlyHourLimit(),
+            contractor.getContractorHourPrice(),
+            contractor.getOvertimeMultiplier(),
+            contractor.getIsOvertimePaid())
+        .stream()
+        .findFirst();
+  }
+}
@@ -1,8 +1,10 @@
 package pl.jarekzegzula.contractor;
 
+import java.util.List;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 public interface ContractorRepository extends JpaRepository<Contractor, Integer> {
 
-  boolean existsByFirstNameAndLastName(String firstName, String lastName);
+  List<Contractor> findByIdGreaterThanOrderByIdAsc(Integer id, Pageable pageable);
 }
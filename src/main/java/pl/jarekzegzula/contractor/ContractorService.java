@@ -2,10 +2,14 @@ package pl.jarekzegzula.contractor;
 
 import jakarta.transaction.Transactional;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import pl.jarekzegzula.contract.ContractType;
+import pl.jarekzegzula.contractorBilling.ContractorBillingsChangedEvent;
 import pl.jarekzegzula.requests.addNewRequest.NewContractorRequest;
 import pl.jarekzegzula.requests.updateRequest.*;
+import pl.jarekzegzula.system.KeysetPage;
 import pl.jarekzegzula.system.exception.ContractorAlreadyExistInGivenTimeException;
 import pl.jarekzegzula.system.exception.IllegalContractTypeArgument;
 import pl.jarekzegzula.system.exception.ObjectNotFoundException;
@@ -23,9 +27,18 @@ public class ContractorService {
 
   private final ContractorRepository contractorRepository;
 
+  private final ContractorJdbcRepository contractorJdbcRepository;
+
+  private final ApplicationEventPublisher eventPublisher;
+
   @Autowired
-  public ContractorService(ContractorRepository contractorRepository) {
+  public ContractorService(
+      ContractorRepository contractorRepository,
+      ContractorJdbcRepository contractorJdbcRepository,
+      ApplicationEventPublisher eventPublisher) {
     this.contractorRepository = contractorRepository;
+    this.contractorJdbcRepository = contractorJdbcRepository;
+    this.eventPublisher = eventPublisher;
   }
 
   public Contractor getContractorById(Integer id) {
@@ -38,25 +51,43 @@ public class ContractorService {
     return contractorRepository.findAll();
   }
 
-  public Contractor addNewContractor(NewContractorRequest request) {
-
-    if (!contractorRepository.existsByFirstNameAndLastName(
-        request.firstName(), request.lastName())) {
+  public KeysetPage<Contractor> getContractorsPage(Integer after, Integer limit) {
+    int pageSize = KeysetPage.resolveLimit(limit);
+    List<Contractor> contractors =
+        contractorRepository.findByIdGreaterThanOrderByIdAsc(
+            after == null ? ZERO : after, PageRequest.ofSize(pageSize + 1));
+    return KeysetPage.of(contractors, pageSize, Contractor::getId);
+  }
 
-      return contractorRepository.save(new Contractor(request));
+  public Contractor addNewContractor(NewContractorRequest request) {
 
-    } else {
-      throw new ContractorAlreadyExistInGivenTimeException("Contractor already exist");
-    }
+    Contractor contractor = new Contractor(request);
+    Integer id =
+        contractorJdbcRepository
+            .insertIfAbsent(contractor)
+            .orElseThrow(
+                () -> new ContractorAlreadyExistInGivenTimeException("Contractor already exist"));
+    contractor.setId(id);
+    return contractor;
   }
 
   public void deleteContractorById(Integer id) {
 
-    this.contractorRepository
-        .findById(id)
-        .orElseThrow(() -> new ObjectNotFoundException("contractor", id));
+    Contractor contractor =
+        this.contractorRepository
+            .findById(id)
+            .orElseThrow(() -> new ObjectNotFoundException("contractor", id));
+
+    ContractorBillingsChangedEvent billingsChangedEvent =
+        contractor.getContractorBillings() == null
+            ? null
+            : ContractorBillingsChangedEvent.of(contractor.getContractorBillings());
 
     this.contractorRepository.deleteById(id);
+
+    if (billingsChangedEvent != null && !billingsChangedEvent.periods().isEmpty()) {
+      eventPublisher.publishEvent(billingsChangedEvent);
+    }
   }
 
   public void updateContractorHourlyRateAndMonthlyEarnings(
@@ -70,6 +101,7 @@ public class ContractorService {
       contractor.setMonthlyEarnings(
           calculateMonthlyEarningsForContractor(
               updateRequest.hourlyRate(), contractor.getMonthlyHourLimit()));
+      eventPublisher.publishEvent(new ContractorTermsChangedEvent(id));
 
     } else {
       throw new ValueUnchangedException("Hourly rate remains the same or the value is incorrect");
@@ -87,6 +119,7 @@ public class ContractorService {
     if (!Objects.equals(contractor.getOvertimeMultiplier(), updateRequest.multiplier())
         && updateRequest.multiplier() >= ZERO) {
       contractor.setOvertimeMultiplier(updateRequest.multiplier());
+      eventPublisher.publishEvent(new ContractorTermsChangedEvent(id));
 
     } else {
       throw new ValueUnchangedException(
@@ -104,6 +137,7 @@ public class ContractorService {
       contractor.setMonthlyHourLimit(updateRequest.hours());
       contractor.setMonthlyEarnings(
           calculateMonthlyEarningsForContractor(contractor.getHourlyRate(), updateRequest.hours()));
+      eventPublisher.publishEvent(new ContractorTermsChangedEvent(id));
 
     } else {
       throw new ValueUnchangedException(
@@ -119,6 +153,7 @@ public class ContractorService {
     if (!Objects.equals(contractor.getContractorHourPrice(), updateRequest.hourPrice())
         && updateRequest.hourPrice() >= ZERO) {
       contractor.setContractorHourPrice(updateRequest.hourPrice());
+      eventPublisher.publishEvent(new ContractorTermsChangedEvent(id));
 
     } else {
       throw new ValueUnchangedException(
@@ -131,6 +166,7 @@ public class ContractorService {
 
     if (!contractor.getIsOvertimePaid().equals(request.value())) {
       contractor.setIsOvertimePaid(request.value());
+      eventPublisher.publishEvent(new ContractorTermsChangedEvent(id));
     } else {
       throw new ValueUnchangedException("Given value is the same or incorrect");
     }
@@ -148,6 +184,7 @@ public class ContractorService {
     if (!contractor.getContractType().equals(ContractType.fromValue(request.contractType()))
         && request.contractType() > ZERO) {
       contractor.setContractType(ContractType.fromValue(request.contractType()));
+      eventPublisher.publishEvent(new ContractorTermsChangedEvent(id));
     } else {
       throw new ValueUnchangedException("Given Contract type is the same");
     }
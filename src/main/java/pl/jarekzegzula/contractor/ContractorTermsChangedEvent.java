@@ -0,0 +1,7 @@
+package pl.jarekzegzula.contractor;
+
+/**
+ * Published when a contractor change affects billing amounts, i.e. rates, limits, overtime rules
+ * or contract type. Listeners run in the transaction of the change.
+ */
+public record ContractorTermsChangedEvent(Integer contractorId) {}
@@ -0,0 +1,36 @@
+package pl.jarekzegzula.contractorBilling;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hands out billing ids for inserts that bypass Hibernate. Follows the same pooled-lo layout as the
+ * entity's generator: each {@code nextval} reserves the block of {@link
+ * ContractorBilling#ID_ALLOCATION_SIZE} ids starting at the returned value, so JDBC and JPA inserts
+ * never overlap and a single insert does not burn a whole block.
+ */
+@Component
+public class BillingIdAllocator {
+
+  static final String NEXT_BLOCK =
+      "SELECT nextval('contractor_management.contractor_billing_id_sequence')";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  private long next;
+
+  private long limit;
+
+  public BillingIdAllocator(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  public synchronized int nextId() {
+    if (next == limit) {
+      Long low = jdbcTemplate.queryForObject(NEXT_BLOCK, Long.class);
+      next = low;
+      limit = low + ContractorBilling.ID_ALLOCATION_SIZE;
+    }
+    return Math.toIntExact(next++);
+  }
+}
@@ -0,0 +1,33 @@
+package pl.jarekzegzula.contractorBilling;
+
+import pl.jarekzegzula.contractorBilling.dto.ContractorBillingDTO;
+import pl.jarekzegzula.system.exception.InvalidCursorException;
+
+/**
+ * Position in the billing listing sorted by period, written as {@code <billingPeriod>-<id>}. It
+ * carries the whole sort key, so the next page is a direct seek and does not depend on the last
+ * row still existing.
+ */
+public record BillingPeriodCursor(int billingPeriod, int id) {
+
+  public static BillingPeriodCursor of(ContractorBillingDTO billing) {
+    return new BillingPeriodCursor(
+        billing.getYear().getValue() * 100 + billing.getMonth().getValue(), billing.getId());
+  }
+
+  public static BillingPeriodCursor parse(String cursor) {
+    int separator = cursor.indexOf('-');
+    try {
+      return new BillingPeriodCursor(
+          Integer.parseInt(cursor.substring(0, separator)),
+          Integer.parseInt(cursor.substring(separator + 1)));
+    } catch (RuntimeException e) {
+      throw new InvalidCursorException(cursor);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return billingPeriod + "-" + id;
+  }
+}
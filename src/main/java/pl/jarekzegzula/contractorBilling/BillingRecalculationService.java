@@ -0,0 +1,194 @@
+package pl.jarekzegzula.contractorBilling;
+
+import static pl.jarekzegzula.calc.FixedPointMoney.toBigDecimal;
+import static pl.jarekzegzula.system.Constants.*;
+
+import java.time.Month;
+import java.time.Year;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import pl.jarekzegzula.calc.BatchPaymentCalculator;
+import pl.jarekzegzula.calc.PaymentBatch;
+import pl.jarekzegzula.calc.PaymentBatchResult;
+import pl.jarekzegzula.contractor.Contractor;
+import pl.jarekzegzula.contractor.ContractorRepository;
+import pl.jarekzegzula.contractor.ContractorTermsChangedEvent;
+import pl.jarekzegzula.contractorBilling.dto.RecalculationResult;
+
+/**
+ * Keeps stored billing amounts in line with contractor terms. A terms change only marks the
+ * contractor's billings as pending, in the same transaction. Pending rows are recalculated later
+ * in batches: each batch locks its rows with {@code SKIP LOCKED}, recomputes them with the {@link
+ * BatchPaymentCalculator} and writes them back with one JDBC batch update, in its own
+ * transaction. A row marked again while its batch runs stays pending for the next pass.
+ */
+@Service
+public class BillingRecalculationService {
+
+  private static final String MARK_PENDING =
+      "UPDATE contractor_management.contractor_billing SET recalculation_pending = TRUE"
+          + " WHERE contractor_id = ? AND billing_period >= ?";
+
+  private static final String SELECT_PENDING =
+      """
+      SELECT id, contractor_id, worked_hours, year, month
+      FROM contractor_management.contractor_billing
+      WHERE recalculation_pending
+      ORDER BY id
+      LIMIT ?
+      FOR UPDATE SKIP LOCKED
+      """;
+
+  private static final String COUNT_PENDING =
+      "SELECT count(*) FROM contractor_management.contractor_billing WHERE recalculation_pending";
+
+  private static final String UPDATE_AMOUNTS =
+      "UPDATE contractor_management.contractor_billing SET contractor_remuneration = ?,"
+          + " client_charge = ?, profit = ?, recalculation_pending = FALSE WHERE id = ?";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  private final TransactionTemplate transactionTemplate;
+
+  private final ContractorRepository contractorRepository;
+
+  private final ApplicationEventPublisher eventPublisher;
+
+  private final RecalculationScope scope;
+
+  private final int openMonths;
+
+  private final int batchSize;
+
+  public BillingRecalculationService(
+      JdbcTemplate jdbcTemplate,
+      PlatformTransactionManager transactionManager,
+      ContractorRepository contractorRepository,
+      ApplicationEventPublisher eventPublisher,
+      @Value("${billing.recalculation.scope}") RecalculationScope scope,
+      @Value("${billing.recalculation.open-months}") int openMonths,
+      @Value("${billing.recalculation.batch-size}") int batchSize) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.contractorRepository = contractorRepository;
+    this.eventPublisher = eventPublisher;
+    this.scope = scope;
+    this.openMonths = openMonths;
+    this.batchSize = batchSize;
+  }
+
+  @EventListener
+  public void onContractorTermsChanged(ContractorTermsChangedEvent event) {
+    markContractorBillings(event.contractorId());
+  }
+
+  /** Marks the contractor's billings within the configured scope for recalculation. */
+  public int markContractorBillings(Integer contractorId) {
+    return jdbcTemplate.update(MARK_PENDING, contractorId, firstRecalculatedPeriod());
+  }
+
+  @Scheduled(fixedDelayString = "${billing.recalculation.interval-ms}")
+  public void recalculatePendingOnSchedule() {
+    recalculatePending();
+  }
+
+  /** Recalculates pending billings batch by batch until none are left. */
+  public int recalculatePending() {
+    int total = 0;
+    int recalculated;
+    do {
+      recalculated = transactionTemplate.execute(status -> recalculateBatch());
+      total += recalculated;
+    } while (recalculated == batchSize);
+    return total;
+  }
+
+  /**
+   * Recalculates a single batch of pending billings, so a request never waits for the whole
+   * backlog. The rest is left to the scheduled drain.
+   */
+  public RecalculationResult recalculateNextBatch() {
+    int recalculated = transactionTemplate.execute(status -> recalculateBatch());
+    Long remaining = jdbcTemplate.queryForObject(COUNT_PENDING, Long.class);
+    return new RecalculationResult(recalculated, remaining == null ? ZERO : remaining);
+  }
+
+  private int recalculateBatch() {
+    List<ContractorBilling> billings =
+        jdbcTemplate.query(
+            SELECT_PENDING,
+            (rs, rowNum) -> {
+              Contractor contractor = new Contractor();
+              contractor.setId(rs.getInt("contractor_id"));
+
+              ContractorBilling billing = new ContractorBilling();
+              billing.setId(rs.getInt("id"));
+              billing.setContractor(contractor);
+              billing.setWorkedHours(rs.getDouble("worked_hours"));
+              billing.setYear(Year.of(rs.getInt("year")));
+              billing.setMonth(Month.valueOf(rs.getString("month")));
+              return billing;
+            },
+            batchSize);
+    if (billings.isEmpty()) {
+      return 0;
+    }
+
+    Map<Integer, Contractor> contractors =
+        contractorRepository
+            .findAllById(billings.stream().map(b -> b.getContractor().getId()).distinct().toList())
+            .stream()
+            .collect(Collectors.toMap(Contractor::getId, Function.identity()));
+
+    List<Contractor> billingContractors = new ArrayList<>(billings.size());
+    for (ContractorBilling billing : billings) {
+      billingContractors.add(contractors.get(billing.getContractor().getId()));
+    }
+    PaymentBatchResult amounts =
+        BatchPaymentCalculator.calculate(
+            PaymentBatch.of(
+                billings.stream().map(ContractorBilling::getWorkedHours).toList(),
+                billingContractors));
+    for (int i = 0; i < billings.size(); i++) {
+      ContractorBilling billing = billings.get(i);
+      billing.setContractor(billingContractors.get(i));
+      billing.setContractorRemuneration(toBigDecimal(amounts.remunerationCents()[i]));
+      billing.setClientCharge(toBigDecimal(amounts.clientChargeCents()[i]));
+      billing.setProfit(toBigDecimal(amounts.profitCents()[i]));
+    }
+
+    jdbcTemplate.batchUpdate(
+        UPDATE_AMOUNTS,
+        billings,
+        billings.size(),
+        (ps, billing) -> {
+          ps.setBigDecimal(1, billing.getContractorRemuneration());
+          ps.setBigDecimal(2, billing.getClientCharge());
+          ps.setBigDecimal(3, billing.getProfit());
+          ps.setInt(4, billing.getId());
+        });
+
+    eventPublisher.publishEvent(ContractorBillingsChangedEvent.of(billings));
+    return billings.size();
+  }
+
+  private int firstRecalculatedPeriod() {
+    if (scope == RecalculationScope.ALL) {
+      return ZERO;
+    }
+    YearMonth firstOpenMonth = YearMonth.now().minusMonths(openMonths - 1L);
+    return firstOpenMonth.getYear() * 100 + firstOpenMonth.getMonthValue();
+  }
+}
@@ -0,0 +1,58 @@
+package pl.jarekzegzula.contractorBilling;
+
+import java.util.Optional;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import pl.jarekzegzula.contractorBilling.dto.BillingRollupDTO;
+
+/**
+ * Reads the billing_rollup table. The table is written only by database triggers on
+ * contractor_billing and by the rebuild function, see V1.11__billing_rollup.sql.
+ */
+@Repository
+public class BillingRollupRepository {
+
+  private static final String FIND_BY_PERIOD =
+      """
+      SELECT billings_count, worked_hours, contractor_remuneration, client_charge, profit
+      FROM contractor_management.billing_rollup
+      WHERE granularity = ? AND period = ? AND billings_count > 0
+      """;
+
+  private static final String REBUILD = "SELECT contractor_management.rebuild_billing_rollup()";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  public BillingRollupRepository(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  public Optional<BillingRollupDTO> findByPeriod(RollupPeriod period) {
+    return jdbcTemplate
+        .query(
+            FIND_BY_PERIOD,
+            (rs, rowNum) ->
+                new BillingRollupDTO(
+                    period.granularity(),
+                    period.label(),
+                    rs.getLong("billings_count"),
+                    rs.getDouble("worked_hours"),
+                    rs.getBigDecimal("contractor_remuneration"),
+                    rs.getBigDecimal("client_charge"),
+                    rs.getBigDecimal("profit")),
+            period.granularity().name(),
+            period.key())
+        .stream()
+        .findFirst();
+  }
+
+  /**
+   * Recomputes the whole rollup from contractor_billing. Billing writes wait until the surrounding
+   * transaction ends.
+   *
+   * @return the number of rollup rows written
+   */
+  public int rebuild() {
+    return jdbcTemplate.queryForObject(REBUILD, Integer.class);
+  }
+}
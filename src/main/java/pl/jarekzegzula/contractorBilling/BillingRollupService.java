@@ -0,0 +1,41 @@
+package pl.jarekzegzula.contractorBilling;
+
+import jakarta.transaction.Transactional;
+import java.time.Month;
+import java.time.Year;
+import org.springframework.stereotype.Service;
+import pl.jarekzegzula.contractorBilling.dto.BillingRollupDTO;
+import pl.jarekzegzula.system.exception.ObjectNotFoundException;
+
+@Service
+public class BillingRollupService {
+
+  private final BillingRollupRepository billingRollupRepository;
+
+  public BillingRollupService(BillingRollupRepository billingRollupRepository) {
+    this.billingRollupRepository = billingRollupRepository;
+  }
+
+  public BillingRollupDTO getMonthlyRollup(Year year, Month month) {
+    return getRollup(RollupPeriod.month(year, month));
+  }
+
+  public BillingRollupDTO getQuarterlyRollup(Year year, Quarter quarter) {
+    return getRollup(RollupPeriod.quarter(year, quarter));
+  }
+
+  public BillingRollupDTO getYearlyRollup(Year year) {
+    return getRollup(RollupPeriod.year(year));
+  }
+
+  @Transactional
+  public int rebuild() {
+    return billingRollupRepository.rebuild();
+  }
+
+  private BillingRollupDTO getRollup(RollupPeriod period) {
+    return billingRollupRepository
+        .findByPeriod(period)
+        .orElseThrow(() -> new ObjectNotFoundException("billing rollup for " + period.label()));
+  }
+}
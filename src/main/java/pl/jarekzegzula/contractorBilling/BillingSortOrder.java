@@ -0,0 +1,7 @@
+package pl.jarekzegzula.contractorBilling;
+
+public enum BillingSortOrder {
+  ID,
+
+  PERIOD
+}
@@ -3,6 +3,7 @@ package pl.jarekzegzula.contractorBilling;
 import static pl.jarekzegzula.calc.Calculator.*;
 
 import com.fasterxml.jackson.annotation.JsonBackReference;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import java.math.BigDecimal;
 import java.time.Month;
@@ -19,18 +20,23 @@ import pl.jarekzegzula.requests.addNewRequest.NewContractorBillingRequest;
 @Table
 @Entity
 public class ContractorBilling {
+
+  /** Ids reserved by one sequence call; the sequence increments by the same amount (V1.5). */
+  public static final int ID_ALLOCATION_SIZE = 50;
+
   @Id
   @SequenceGenerator(
       name = "contractorBilling_id_sequence",
       sequenceName = "contractorBilling_id_sequence",
-      allocationSize = 1)
+      allocationSize = ID_ALLOCATION_SIZE)
   @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "contractorBilling_id_sequence")
   @Column(name = "id")
   private Integer id;
 
-  @ManyToOne
+  @ManyToOne(fetch = FetchType.LAZY)
   @JoinColumn(name = "contractor_id")
   @JsonBackReference
+  @ToString.Exclude
   private Contractor contractor;
 
   @Column(name = "worked_hours")
@@ -43,6 +49,10 @@ public class ContractorBilling {
   @Column(name = "month")
   private Month month;
 
+  @JsonIgnore
+  @Column(name = "billing_period", insertable = false, updatable = false)
+  private Integer billingPeriod;
+
   @Column(name = "contractor_remuneration")
   private BigDecimal contractorRemuneration;
 
@@ -57,9 +67,13 @@ public class ContractorBilling {
     this.workedHours = request.workedHours();
     this.year = request.year();
     this.month = request.month();
-    this.contractorRemuneration = calculateContractorPayment(request.workedHours(), contractor);
-    this.clientCharge =
-        calculateClientsChargeFromContractorHours(request.workedHours(), contractor);
+    recalculateAmounts();
+  }
+
+  /** Recomputes the money fields from the worked hours and the contractor's current terms. */
+  public void recalculateAmounts() {
+    this.contractorRemuneration = calculateContractorPayment(workedHours, contractor);
+    this.clientCharge = calculateClientsChargeFromContractorHours(workedHours, contractor);
     this.profit = calculateProfit(clientCharge, contractorRemuneration);
   }
 }
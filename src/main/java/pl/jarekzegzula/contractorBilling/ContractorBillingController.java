@@ -2,19 +2,28 @@ package pl.jarekzegzula.contractorBilling;
 
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import pl.jarekzegzula.contractorBilling.dto.ContractorBillingBatchResult;
 import pl.jarekzegzula.contractorBilling.dto.ContractorBillingDTO;
+import pl.jarekzegzula.contractorBilling.dto.CsvImportResult;
+import pl.jarekzegzula.contractorBilling.dto.RecalculationResult;
 import pl.jarekzegzula.requests.addNewRequest.NewContractorBillingRequest;
+import pl.jarekzegzula.requests.simulationRequest.RateSimulationRequest;
 import pl.jarekzegzula.requests.updateRequest.UpdateContractorBillingHoursRequest;
 import pl.jarekzegzula.system.Result;
 import pl.jarekzegzula.system.StatusCode;
 import pl.jarekzegzula.system.exception.ContractorAlreadyExistInGivenTimeException;
 import pl.jarekzegzula.system.exception.SameHoursOrLessThanZeroException;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.Month;
 import java.time.Year;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("${api.endpoint.base-url}/contractor/billing")
@@ -22,21 +31,59 @@ public class ContractorBillingController {
 
   private final ContractorBillingService contractorBillingService;
 
+  private final ContractorBillingExportService contractorBillingExportService;
+
+  private final BillingRecalculationService billingRecalculationService;
+
+  private final BillingRollupService billingRollupService;
+
+  private final RateSimulationService rateSimulationService;
+
+  private final ContractorBillingCsvImportService contractorBillingCsvImportService;
+
+  private final MonthlyReportService monthlyReportService;
+
   @Autowired
-  public ContractorBillingController(ContractorBillingService contractorBillingService) {
+  public ContractorBillingController(
+      ContractorBillingService contractorBillingService,
+      ContractorBillingExportService contractorBillingExportService,
+      BillingRecalculationService billingRecalculationService,
+      BillingRollupService billingRollupService,
+      RateSimulationService rateSimulationService,
+      ContractorBillingCsvImportService contractorBillingCsvImportService,
+      MonthlyReportService monthlyReportService) {
     this.contractorBillingService = contractorBillingService;
+    this.contractorBillingExportService = contractorBillingExportService;
+    this.billingRecalculationService = billingRecalculationService;
+    this.billingRollupService = billingRollupService;
+    this.rateSimulationService = rateSimulationService;
+    this.contractorBillingCsvImportService = contractorBillingCsvImportService;
+    this.monthlyReportService = monthlyReportService;
   }
 
   @GetMapping()
-  public Result getContractorBillings() {
-    List<ContractorBillingDTO> contractorBillingDTOs =
-        contractorBillingService.findAll().stream()
-            .map(ContractorBillingDTO::new)
-            .collect(Collectors.toList());
+  public Result getContractorBillings(
+      @RequestParam(value = "after", required = false) String after,
+      @RequestParam(value = "limit", required = false) Integer limit,
+      @RequestParam(value = "sort", required = false) BillingSortOrder sort) {
+    if (after != null || limit != null || sort != null) {
+      return new Result(
+          true,
+          StatusCode.SUCCESS,
+          "Success",
+          contractorBillingService.findDTOsPage(after, limit, sort));
+    }
+    List<ContractorBillingDTO> contractorBillingDTOs = contractorBillingService.findAllDTOs();
 
     return new Result(true, StatusCode.SUCCESS, "Success", contractorBillingDTOs);
   }
 
+  @GetMapping("/export")
+  public ResponseEntity<StreamingResponseBody> exportContractorBillings() {
+    StreamingResponseBody body = contractorBillingExportService::writeAll;
+    return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+  }
+
   @GetMapping("{contractorId}")
   public Result getContractorBillingById(@PathVariable("contractorId") Integer id) {
     return new Result(
@@ -45,12 +92,49 @@ public class ContractorBillingController {
 
   @GetMapping("/report")
   public Result getContractorBillingsMonthlyReport(
-      @Valid @RequestParam("year") Year year, @RequestParam("month") Month month) {
+      @Valid @RequestParam("year") Year year,
+      @RequestParam("month") Month month,
+      @RequestParam(value = "includeDetails", defaultValue = "true") boolean includeDetails) {
     return new Result(
         true,
         StatusCode.SUCCESS,
         "Success",
-        contractorBillingService.getContractorBillingsMonthlyReport(year, month));
+        monthlyReportService.getMonthlyReport(year, month, includeDetails));
+  }
+
+  @GetMapping("/rollup/month")
+  public Result getMonthlyRollup(
+      @RequestParam("year") Year year, @RequestParam("month") Month month) {
+    return new Result(
+        true, StatusCode.SUCCESS, "Success", billingRollupService.getMonthlyRollup(year, month));
+  }
+
+  @GetMapping("/rollup/quarter")
+  public Result getQuarterlyRollup(
+      @RequestParam("year") Year year, @RequestParam("quarter") Quarter quarter) {
+    return new Result(
+        true,
+        StatusCode.SUCCESS,
+        "Success",
+        billingRollupService.getQuarterlyRollup(year, quarter));
+  }
+
+  @GetMapping("/rollup/year")
+  public Result getYearlyRollup(@RequestParam("year") Year year) {
+    return new Result(
+        true, StatusCode.SUCCESS, "Success", billingRollupService.getYearlyRollup(year));
+  }
+
+  @PostMapping("/rollup/rebuild")
+  public Result rebuildRollup() {
+    int rows = billingRollupService.rebuild();
+    return new Result(true, StatusCode.SUCCESS, "Rollup rebuilt", rows);
+  }
+
+  @PostMapping("/simulation")
+  public Result simulateRates(@Valid @RequestBody RateSimulationRequest request) {
+    return new Result(
+        true, StatusCode.SUCCESS, "Simulation finished", rateSimulationService.simulate(request));
   }
 
   @PostMapping
@@ -60,6 +144,22 @@ public class ContractorBillingController {
     return new Result(true, StatusCode.SUCCESS, "Contractor billing added successfully", request);
   }
 
+  @PostMapping("/batch")
+  public Result addContractorBillings(@RequestBody List<NewContractorBillingRequest> requests) {
+    List<ContractorBillingBatchResult> results =
+        contractorBillingService.addNewContractorBillings(requests);
+    return new Result(true, StatusCode.SUCCESS, "Contractor billings batch processed", results);
+  }
+
+  @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+  public Result importContractorBillings(@RequestParam("file") MultipartFile file)
+      throws IOException {
+    try (InputStream csv = file.getInputStream()) {
+      CsvImportResult result = contractorBillingCsvImportService.importCsv(csv);
+      return new Result(true, StatusCode.SUCCESS, "Import finished", result);
+    }
+  }
+
   @PutMapping("/hours/{contractorBillingId}")
   public Result updateContractorBillingWorkedHours(
       @PathVariable("contractorBillingId") Integer id,
@@ -71,6 +171,12 @@ public class ContractorBillingController {
     return new Result(true, StatusCode.SUCCESS, "Update success");
   }
 
+  @PostMapping("/recalculation")
+  public Result recalculatePendingBillings() {
+    RecalculationResult result = billingRecalculationService.recalculateNextBatch();
+    return new Result(true, StatusCode.SUCCESS, "Recalculation batch finished", result);
+  }
+
   @DeleteMapping("{contractorBillingId}")
   public Result deleteContractorBilling(@PathVariable("contractorBillingId") Integer id) {
     contractorBillingService.deleteContractorBillingById(id);
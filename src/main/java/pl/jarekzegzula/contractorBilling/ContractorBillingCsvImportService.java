@@ -0,0 +1,401 @@
+package pl.jarekzegzula.contractorBilling;
+
+import static pl.jarekzegzula.system.Constants.INVALID_HOURS_MESSAGE;
+import static pl.jarekzegzula.system.Constants.INVALID_YEAR_MESSAGE;
+import static pl.jarekzegzula.system.Constants.MAX_BILLING_YEAR;
+import static pl.jarekzegzula.system.Constants.MIN_BILLING_YEAR;
+
+import io.micrometer.core.annotation.Timed;
+import jakarta.transaction.Transactional;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Month;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.PriorityQueue;
+import java.util.Set;
+import javax.sql.DataSource;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Service;
+import pl.jarekzegzula.calc.FixedPointMoney;
+import pl.jarekzegzula.contractorBilling.dto.CsvImportRejection;
+import pl.jarekzegzula.contractorBilling.dto.CsvImportResult;
+
+/**
+ * Imports billings from a CSV of {@code contractorId,workedHours,year,month} rows; blank lines and
+ * a first line matching {@link #HEADER} are skipped and the month may be given by name or number.
+ * Rows are parsed and validated one at a time and streamed with {@code COPY} into a temporary
+ * staging table, so memory does not grow with the file. The staging table is then merged into
+ * contractor_billing with set based statements: the referenced contractors are locked, rows of
+ * unknown contractors, rows repeating a contractor and month within the file and rows whose month
+ * is already billed are rejected, and the rest are priced with the locked terms and inserted at
+ * once.
+ */
+@Service
+public class ContractorBillingCsvImportService {
+
+  private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+  private static final String HEADER = "contractorId,workedHours,year,month";
+
+  private static final String CREATE_STAGING =
+      """
+      CREATE TEMP TABLE contractor_billing_import
+          (
+          line_number BIGINT,
+          contractor_id INTEGER,
+          worked_hours DOUBLE PRECISION,
+          year INTEGER,
+          month VARCHAR(10)
+          ) ON COMMIT DROP
+      """;
+
+  private static final String COPY_STAGING =
+      "COPY pg_temp.contractor_billing_import FROM STDIN (FORMAT csv)";
+
+  /**
+   * Share locks the staged rows' contractors until commit and rejects rows whose contractor does
+   * not exist. The lock keeps the terms used by {@link #MERGE_STAGING} from changing: a concurrent
+   * terms change waits for the import and then marks the imported billings for recalculation like
+   * any other. Runs before {@link #LOCK_BILLINGS}, so such a change, which marks billings after
+   * updating its contractor, cannot deadlock with the import.
+   */
+  private static final String DELETE_MISSING_CONTRACTORS =
+      """
+      WITH kept AS (
+          SELECT c.id
+          FROM contractor_management.contractor c
+          WHERE c.id IN (SELECT contractor_id FROM pg_temp.contractor_billing_import)
+          FOR SHARE
+      )
+      DELETE FROM pg_temp.contractor_billing_import i
+      WHERE i.contractor_id NOT IN (SELECT id FROM kept)
+      RETURNING i.line_number, i.contractor_id
+      """;
+
+  private static final String LOCK_BILLINGS =
+      "LOCK TABLE contractor_management.contractor_billing IN SHARE ROW EXCLUSIVE MODE";
+
+  private static final String DELETE_REPEATED =
+      """
+      DELETE FROM pg_temp.contractor_billing_import
+      WHERE line_number IN (
+          SELECT line_number
+          FROM (
+              SELECT line_number,
+                     row_number() OVER (
+                         PARTITION BY contractor_id, year, month ORDER BY line_number) AS position
+              FROM pg_temp.contractor_billing_import
+          ) numbered
+          WHERE position > 1)
+      RETURNING line_number, contractor_id
+      """;
+
+  private static final String DELETE_EXISTING =
+      """
+      DELETE FROM pg_temp.contractor_billing_import i
+      USING contractor_management.contractor_billing b
+      WHERE b.contractor_id = i.contractor_id AND b.year = i.year AND b.month = i.month
+      RETURNING i.line_number, i.contractor_id
+      """;
+
+  /**
+   * Prices the staged rows with the same rules as {@link FixedPointMoney}: terms and hours are
+   * taken at their validated scales and every amount is rounded half up to the cent once. Takes
+   * one pooled-lo block of the billing id sequence per {@link ContractorBilling#ID_ALLOCATION_SIZE}
+   * staged rows and numbers the rows within their block, matching the layout of the entity's
+   * generator.
+   */
+  private static final String MERGE_STAGING =
+      """
+      WITH terms AS (
+          SELECT i.line_number, i.contractor_id, i.worked_hours, i.year, i.month,
+                 round(i.worked_hours::NUMERIC, 3) AS hours,
+                 c.contract_type, c.monthly_hour_limit AS hour_limit, c.is_overtime_paid,
+                 round(c.hourly_rate::NUMERIC, 2) AS rate,
+                 round(c.monthly_earnings::NUMERIC, 2) AS salary,
+                 round(c.overtime_multiplier::NUMERIC, 3) AS multiplier,
+                 round(c.contractor_hour_price::NUMERIC, 2) AS hour_price
+          FROM pg_temp.contractor_billing_import i
+          JOIN contractor_management.contractor c ON c.id = i.contractor_id
+      ),
+      priced AS (
+          SELECT t.line_number, t.contractor_id, t.worked_hours, t.year, t.month,
+                 CASE
+                     WHEN t.contract_type = 'CONTRACT_OF_EMPLOYMENT' AND t.hours = t.hour_limit
+                         THEN t.salary
+                     WHEN t.hours > t.hour_limit
+                          AND (t.contract_type = 'CONTRACT_OF_EMPLOYMENT'
+                               OR t.contract_type = 'CONTRACT_B2B' AND t.is_overtime_paid)
+                         THEN t.salary
+                              + round((t.hours - t.hour_limit) * t.rate * t.multiplier, 2)
+                     ELSE round(t.hours * t.rate, 2)
+                 END AS contractor_remuneration,
+                 round(t.hours * t.hour_price, 2) AS client_charge
+          FROM terms t
+      ),
+      staged AS (
+          SELECT p.*, row_number() OVER (ORDER BY line_number) - 1 AS position
+          FROM priced p
+      ),
+      blocks AS MATERIALIZED (
+          SELECT b - 1 AS block,
+                 nextval('contractor_management.contractor_billing_id_sequence') AS low
+          FROM generate_series(1, (SELECT (count(*) + %1$d - 1) / %1$d FROM staged)) AS b
+      )
+      INSERT INTO contractor_management.contractor_billing
+          (id, contractor_id, worked_hours, year, month, contractor_remuneration, client_charge,
+          profit)
+      SELECT b.low + s.position %% %1$d, s.contractor_id, s.worked_hours, s.year, s.month,
+             s.contractor_remuneration, s.client_charge,
+             s.client_charge - s.contractor_remuneration
+      FROM staged s
+      JOIN blocks b ON b.block = s.position / %1$d
+      ORDER BY s.line_number
+      RETURNING contractor_id, year, month
+      """
+          .formatted(ContractorBilling.ID_ALLOCATION_SIZE);
+
+  private final JdbcTemplate jdbcTemplate;
+
+  private final DataSource dataSource;
+
+  private final ApplicationEventPublisher eventPublisher;
+
+  private final int maxReportedRejections;
+
+  public ContractorBillingCsvImportService(
+      JdbcTemplate jdbcTemplate,
+      ApplicationEventPublisher eventPublisher,
+      @Value("${billing.import.max-reported-rejections}") int maxReportedRejections) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.dataSource = jdbcTemplate.getDataSource();
+    this.eventPublisher = eventPublisher;
+    this.maxReportedRejections = maxReportedRejections;
+  }
+
+  @Transactional
+  @Timed(value = "billing.import", description = "Time to import a CSV of billings")
+  public CsvImportResult importCsv(InputStream csv) throws IOException {
+    Rejections rejections = new Rejections(maxReportedRejections);
+
+    jdbcTemplate.execute(CREATE_STAGING);
+    long rowsRead;
+    Connection connection = DataSourceUtils.getConnection(dataSource);
+    try {
+      CopyIn copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_STAGING);
+      try {
+        rowsRead = stage(csv, copyIn, rejections);
+        copyIn.endCopy();
+      } finally {
+        if (copyIn.isActive()) {
+          copyIn.cancelCopy();
+        }
+      }
+    } catch (SQLException e) {
+      throw new IOException("Could not stage the imported billings", e);
+    } finally {
+      DataSourceUtils.releaseConnection(connection, dataSource);
+    }
+
+    jdbcTemplate.query(DELETE_MISSING_CONTRACTORS, missingContractorHandler(rejections));
+    jdbcTemplate.execute(LOCK_BILLINGS);
+    RowCallbackHandler alreadyExists =
+        rejectionHandler(rejections, "Contractor billing at given date already exists");
+    jdbcTemplate.query(DELETE_REPEATED, alreadyExists);
+    jdbcTemplate.query(DELETE_EXISTING, alreadyExists);
+    MergedBillings merged = new MergedBillings();
+    jdbcTemplate.query(MERGE_STAGING, merged);
+
+    if (merged.count > 0) {
+      eventPublisher.publishEvent(
+          new ContractorBillingsChangedEvent(merged.contractorIds, merged.periods));
+    }
+    return new CsvImportResult(rowsRead, merged.count, rejections.count(), rejections.sorted());
+  }
+
+  /**
+   * Parses the CSV and writes the accepted rows to {@code copyIn}, reporting the others to {@code
+   * rejections}. Returns the number of rows read, blank lines and the header excluded.
+   */
+  static long stage(
+      InputStream csv,
+      CopyIn copyIn,
+      Rejections rejections)
+      throws IOException, SQLException {
+    BufferedReader reader =
+        new BufferedReader(new InputStreamReader(csv, StandardCharsets.UTF_8));
+    StringBuilder buffer = new StringBuilder(COPY_BUFFER_SIZE + 256);
+    long rowsRead = 0;
+    long lineNumber = 0;
+    String line;
+    while ((line = reader.readLine()) != null) {
+      lineNumber++;
+      if (line.isBlank() || (lineNumber == 1 && isHeader(line))) {
+        continue;
+      }
+      rowsRead++;
+
+      String[] fields = line.split(",", -1);
+      if (fields.length != 4 || isAnyBlank(fields)) {
+        rejections.add(lineNumber, null, "Required billing fields are missing");
+        continue;
+      }
+
+      Integer contractorId;
+      double workedHours;
+      YearMonth period;
+      try {
+        contractorId = Integer.valueOf(fields[0].strip());
+        workedHours = Double.parseDouble(fields[1].strip());
+        int year = Integer.parseInt(fields[2].strip());
+        if (year < MIN_BILLING_YEAR || year > MAX_BILLING_YEAR) {
+          rejections.add(lineNumber, contractorId, INVALID_YEAR_MESSAGE);
+          continue;
+        }
+        period = YearMonth.of(year, parseMonth(fields[3].strip()));
+      } catch (RuntimeException e) {
+        rejections.add(lineNumber, null, "Malformed billing row");
+        continue;
+      }
+      if (!Double.isFinite(workedHours) || workedHours < 0) {
+        rejections.add(lineNumber, contractorId, "Given data is less or equal to zero");
+        continue;
+      }
+      if (!FixedPointMoney.isValidHours(workedHours)) {
+        rejections.add(lineNumber, contractorId, INVALID_HOURS_MESSAGE);
+        continue;
+      }
+
+      buffer
+          .append(lineNumber).append(',')
+          .append(contractorId).append(',')
+          .append(workedHours).append(',')
+          .append(period.getYear()).append(',')
+          .append(period.getMonth().name()).append('\n');
+
+      if (buffer.length() >= COPY_BUFFER_SIZE) {
+        flush(buffer, copyIn);
+      }
+    }
+    flush(buffer, copyIn);
+    return rowsRead;
+  }
+
+  private static boolean isHeader(String line) {
+    return line.replace("\uFEFF", "").replace(" ", "").strip().equalsIgnoreCase(HEADER);
+  }
+
+  private static Month parseMonth(String value) {
+    return Character.isDigit(value.charAt(0))
+        ? Month.of(Integer.parseInt(value))
+        : Month.valueOf(value.toUpperCase(Locale.ROOT));
+  }
+
+  private static boolean isAnyBlank(String[] fields) {
+    for (String field : fields) {
+      if (field.isBlank()) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static void flush(StringBuilder buffer, CopyIn copyIn) throws SQLException {
+    if (buffer.isEmpty()) {
+      return;
+    }
+    byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+    copyIn.writeToCopy(bytes, 0, bytes.length);
+    buffer.setLength(0);
+  }
+
+  private static RowCallbackHandler rejectionHandler(Rejections rejections, String message) {
+    return rs -> rejections.add(rs.getLong("line_number"), rs.getInt("contractor_id"), message);
+  }
+
+  private static RowCallbackHandler missingContractorHandler(Rejections rejections) {
+    return rs -> {
+      int contractorId = rs.getInt("contractor_id");
+      rejections.add(
+          rs.getLong("line_number"),
+          contractorId,
+          "Could not find contractor with Id " + contractorId);
+    };
+  }
+
+  /** Collects the contractors and months of the merged rows for the change event. */
+  private static final class MergedBillings implements RowCallbackHandler {
+
+    private final Set<Integer> contractorIds = new HashSet<>();
+
+    private final Set<YearMonth> periods = new HashSet<>();
+
+    private long count;
+
+    @Override
+    public void processRow(ResultSet rs) throws SQLException {
+      count++;
+      contractorIds.add(rs.getInt("contractor_id"));
+      periods.add(YearMonth.of(rs.getInt("year"), Month.valueOf(rs.getString("month"))));
+    }
+  }
+
+  /**
+   * Counts every rejection but keeps only the ones with the lowest line numbers for the response.
+   * Rows rejected by the merge are added after all parse rejections, so the kept rows live in a
+   * max-heap on the line number and a later, lower line replaces the highest one.
+   */
+  static final class Rejections {
+
+    private static final Comparator<CsvImportRejection> BY_LINE =
+        Comparator.comparingLong(CsvImportRejection::line);
+
+    private final int limit;
+
+    private final PriorityQueue<CsvImportRejection> reported;
+
+    private long count;
+
+    Rejections(int limit) {
+      this.limit = limit;
+      this.reported = new PriorityQueue<>(Math.max(1, limit), BY_LINE.reversed());
+    }
+
+    void add(long line, Integer contractorId, String message) {
+      count++;
+      if (reported.size() < limit) {
+        reported.add(new CsvImportRejection(line, contractorId, message));
+      } else if (limit > 0 && line < reported.peek().line()) {
+        reported.poll();
+        reported.add(new CsvImportRejection(line, contractorId, message));
+      }
+    }
+
+    long count() {
+      return count;
+    }
+
+    List<CsvImportRejection> sorted() {
+      List<CsvImportRejection> sorted = new ArrayList<>(reported);
+      sorted.sort(BY_LINE);
+      return sorted;
+    }
+  }
+}
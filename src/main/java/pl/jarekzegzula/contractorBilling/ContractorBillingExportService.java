@@ -0,0 +1,54 @@
+package pl.jarekzegzula.contractorBilling;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import pl.jarekzegzula.contractorBilling.dto.ContractorBillingDTO;
+import pl.jarekzegzula.system.StatusCode;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Writes every billing as a {@code Result} JSON document straight to an output stream. Rows are
+ * read through a database cursor as DTO projections, so nothing is kept in the persistence
+ * context and memory stays flat regardless of the table size.
+ */
+@Service
+public class ContractorBillingExportService {
+
+  private final ContractorBillingRepository contractorBillingRepository;
+
+  private final ObjectMapper objectMapper;
+
+  public ContractorBillingExportService(
+      ContractorBillingRepository contractorBillingRepository, ObjectMapper objectMapper) {
+    this.contractorBillingRepository = contractorBillingRepository;
+    this.objectMapper = objectMapper;
+  }
+
+  @Transactional(readOnly = true)
+  public void writeAll(OutputStream outputStream) throws IOException {
+    try (Stream<ContractorBillingDTO> billings = contractorBillingRepository.streamAllDTOs();
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+
+      generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+      generator.writeStartObject();
+      generator.writeBooleanField("flag", true);
+      generator.writeNumberField("code", StatusCode.SUCCESS);
+      generator.writeStringField("message", "Success");
+      generator.writeArrayFieldStart("data");
+
+      Iterator<ContractorBillingDTO> iterator = billings.iterator();
+      while (iterator.hasNext()) {
+        generator.writeObject(iterator.next());
+      }
+
+      generator.writeEndArray();
+      generator.writeEndObject();
+    }
+  }
+}
@@ -0,0 +1,158 @@
+package pl.jarekzegzula.contractorBilling;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.time.Year;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import pl.jarekzegzula.calc.FixedPointMoney;
+
+/**
+ * Billing writes that need PostgreSQL specific SQL. Runs on the connection of the surrounding JPA
+ * transaction.
+ */
+@Repository
+public class ContractorBillingJdbcRepository {
+
+  private static final String INSERT_IF_ABSENT =
+      """
+      INSERT INTO contractor_management.contractor_billing
+          (id, contractor_id, worked_hours, year, month, contractor_remuneration, client_charge,
+          profit)
+      VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+      ON CONFLICT (contractor_id, year, month) DO NOTHING
+      RETURNING id
+      """;
+
+  private static final String INSERT_ALL_IF_ABSENT =
+      """
+      INSERT INTO contractor_management.contractor_billing
+          (id, contractor_id, worked_hours, year, month, contractor_remuneration, client_charge,
+          profit)
+      SELECT *
+      FROM unnest(?::INTEGER[], ?::INTEGER[], ?::DOUBLE PRECISION[], ?::INTEGER[], ?::VARCHAR[],
+          ?::NUMERIC[], ?::NUMERIC[], ?::NUMERIC[])
+      ON CONFLICT (contractor_id, year, month) DO NOTHING
+      RETURNING id
+      """;
+
+  private static final String SELECT_HISTORICAL =
+      """
+      SELECT contractor_id, billing_period, worked_hours, contractor_remuneration, client_charge
+      FROM contractor_management.contractor_billing
+      WHERE year = ? AND contractor_id = ANY (?)
+      """;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  private final BillingIdAllocator billingIdAllocator;
+
+  public ContractorBillingJdbcRepository(
+      JdbcTemplate jdbcTemplate, BillingIdAllocator billingIdAllocator) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.billingIdAllocator = billingIdAllocator;
+  }
+
+  /**
+   * Inserts the billing in one statement, relying on the unique (contractor_id, year, month) index
+   * instead of a prior existence check. The id comes from {@link BillingIdAllocator}, not the
+   * column default, which would take a whole block of the pooled sequence per row.
+   *
+   * @return the generated id, or empty when the contractor already has a billing for that month
+   */
+  public Optional<Integer> insertIfAbsent(ContractorBilling contractorBilling) {
+    return jdbcTemplate
+        .queryForList(
+            INSERT_IF_ABSENT,
+            Integer.class,
+            billingIdAllocator.nextId(),
+            contractorBilling.getContractor().getId(),
+            contractorBilling.getWorkedHours(),
+            contractorBilling.getYear().getValue(),
+            contractorBilling.getMonth().name(),
+            contractorBilling.getContractorRemuneration(),
+            contractorBilling.getClientCharge(),
+            contractorBilling.getProfit())
+        .stream()
+        .findFirst();
+  }
+
+  /**
+   * Inserts all billings in one statement over column arrays, skipping those whose contractor
+   * already has a billing for that month. Each billing gets its id from {@link BillingIdAllocator}
+   * before the insert, so the caller tells inserted rows from conflicts by the returned ids.
+   *
+   * @return the ids of the billings that were inserted
+   */
+  public Set<Integer> insertAllIfAbsent(List<ContractorBilling> contractorBillings) {
+    int size = contractorBillings.size();
+    Object[] ids = new Object[size];
+    Object[] contractorIds = new Object[size];
+    Object[] workedHours = new Object[size];
+    Object[] years = new Object[size];
+    Object[] months = new Object[size];
+    Object[] remunerations = new Object[size];
+    Object[] clientCharges = new Object[size];
+    Object[] profits = new Object[size];
+    for (int i = 0; i < size; i++) {
+      ContractorBilling contractorBilling = contractorBillings.get(i);
+      contractorBilling.setId(billingIdAllocator.nextId());
+      ids[i] = contractorBilling.getId();
+      contractorIds[i] = contractorBilling.getContractor().getId();
+      workedHours[i] = contractorBilling.getWorkedHours();
+      years[i] = contractorBilling.getYear().getValue();
+      months[i] = contractorBilling.getMonth().name();
+      remunerations[i] = contractorBilling.getContractorRemuneration();
+      clientCharges[i] = contractorBilling.getClientCharge();
+      profits[i] = contractorBilling.getProfit();
+    }
+
+    Set<Integer> insertedIds = new HashSet<>();
+    jdbcTemplate.query(
+        connection -> {
+          PreparedStatement statement = connection.prepareStatement(INSERT_ALL_IF_ABSENT);
+          statement.setArray(1, connection.createArrayOf("integer", ids));
+          statement.setArray(2, connection.createArrayOf("integer", contractorIds));
+          statement.setArray(3, connection.createArrayOf("float8", workedHours));
+          statement.setArray(4, connection.createArrayOf("integer", years));
+          statement.setArray(5, connection.createArrayOf("varchar", months));
+          statement.setArray(6, connection.createArrayOf("numeric", remunerations));
+          statement.setArray(7, connection.createArrayOf("numeric", clientCharges));
+          statement.setArray(8, connection.createArrayOf("numeric", profits));
+          return statement;
+        },
+        (RowCallbackHandler) rs -> insertedIds.add(rs.getInt("id")));
+    return insertedIds;
+  }
+
+  /** Reads the contractors' billings of one year into primitive columns, without entities. */
+  public HistoricalBillings findHistoricalBillings(Year year, Collection<Integer> contractorIds) {
+    HistoricalBillings billings = new HistoricalBillings();
+    jdbcTemplate.query(
+        connection -> {
+          PreparedStatement statement = connection.prepareStatement(SELECT_HISTORICAL);
+          statement.setInt(1, year.getValue());
+          statement.setArray(2, connection.createArrayOf("integer", contractorIds.toArray()));
+          return statement;
+        },
+        (RowCallbackHandler)
+            rs ->
+                billings.add(
+                    rs.getInt("contractor_id"),
+                    rs.getInt("billing_period") % 100,
+                    rs.getDouble("worked_hours"),
+                    toCents(rs.getBigDecimal("contractor_remuneration")),
+                    toCents(rs.getBigDecimal("client_charge"))));
+    return billings;
+  }
+
+  private static long toCents(BigDecimal amount) {
+    return amount == null ? 0 : FixedPointMoney.toCents(amount);
+  }
+}
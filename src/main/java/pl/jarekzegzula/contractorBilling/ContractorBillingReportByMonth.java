@@ -1,8 +1,10 @@
 package pl.jarekzegzula.contractorBilling;
 
-import lombok.Data;
-import pl.jarekzegzula.calc.Calculator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Value;
+import pl.jarekzegzula.calc.WorkingCalendar;
 import pl.jarekzegzula.contractorBilling.dto.ContractorBillingDTO;
+import pl.jarekzegzula.contractorBilling.dto.ContractorBillingMonthlySummary;
 
 import java.math.BigDecimal;
 import java.time.Month;
@@ -10,32 +12,46 @@ import java.time.Year;
 import java.time.YearMonth;
 import java.util.List;
 
-@Data
+/** An immutable snapshot, safe to hand out from the report cache. */
+@Value
 public class ContractorBillingReportByMonth {
 
   private YearMonth yearMonth;
 
   private Double workingHours;
 
+  private Long billingsCount;
+
+  private Double contractorsWorkedHours;
+
   private BigDecimal expense;
 
   private BigDecimal income;
 
   private BigDecimal profit;
 
+  @JsonInclude(JsonInclude.Include.NON_NULL)
   private List<ContractorBillingDTO> contractorBillingDTOS;
 
+  /**
+   * Builds the report from totals aggregated by the database. Detail rows are optional, pass
+   * {@code null} when only the totals are needed. Working hours come from the {@link
+   * WorkingCalendar}, so public holidays are already excluded.
+   */
   public ContractorBillingReportByMonth(
-      List<ContractorBillingDTO> contractorsByYearAndMonth, Year year, Month month) {
+      ContractorBillingMonthlySummary summary,
+      List<ContractorBillingDTO> contractorsByYearAndMonth,
+      Year year,
+      Month month,
+      Double workingHours) {
     this.yearMonth = YearMonth.of(year.getValue(), month);
-    this.workingHours = Calculator.countWorkingHoursWithoutWeekendsInMonth(year, month);
-    this.expense =
-        Calculator.sumContractorsBillingFinancial(
-            contractorsByYearAndMonth, ContractorBillingDTO::getContractorRemuneration);
-    this.income =
-        Calculator.sumContractorsBillingFinancial(
-            contractorsByYearAndMonth, ContractorBillingDTO::getClientCharge);
-    this.profit = Calculator.calculateProfit(income, expense);
-    this.contractorBillingDTOS = contractorsByYearAndMonth;
+    this.workingHours = workingHours;
+    this.billingsCount = summary.billingsCount();
+    this.contractorsWorkedHours = summary.workedHours();
+    this.expense = summary.contractorRemuneration();
+    this.income = summary.clientCharge();
+    this.profit = summary.profit();
+    this.contractorBillingDTOS =
+        contractorsByYearAndMonth == null ? null : List.copyOf(contractorsByYearAndMonth);
   }
 }
@@ -1,11 +1,24 @@
 package pl.jarekzegzula.contractorBilling;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import pl.jarekzegzula.contractorBilling.dto.ContractorBillingDTO;
+import pl.jarekzegzula.contractorBilling.dto.ContractorBillingKey;
+import pl.jarekzegzula.contractorBilling.dto.ContractorBillingMonthlySummary;
 
 import java.time.Month;
 import java.time.Year;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static pl.jarekzegzula.system.Constants.BILLING_EXPORT_FETCH_SIZE;
 
 public interface ContractorBillingRepository extends JpaRepository<ContractorBilling, Integer> {
 
@@ -13,5 +26,79 @@ public interface ContractorBillingRepository extends JpaRepository<ContractorBil
 
   List<ContractorBilling> findByYearAndMonth(Year year, Month month);
 
-  boolean existsByContractorIdAndYearAndMonth(Integer id, Year year, Month month);
+  @Query(
+      "select new pl.jarekzegzula.contractorBilling.dto.ContractorBillingDTO("
+          + "b.id, b.contractor.id, b.workedHours, b.year, b.month, "
+          + "b.contractorRemuneration, b.clientCharge, b.profit) "
+          + "from ContractorBilling b "
+          + "order by b.id")
+  List<ContractorBillingDTO> findAllDTOs();
+
+  @QueryHints({
+    @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = BILLING_EXPORT_FETCH_SIZE),
+    @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+  })
+  @Query(
+      "select new pl.jarekzegzula.contractorBilling.dto.ContractorBillingDTO("
+          + "b.id, b.contractor.id, b.workedHours, b.year, b.month, "
+          + "b.contractorRemuneration, b.clientCharge, b.profit) "
+          + "from ContractorBilling b "
+          + "order by b.id")
+  Stream<ContractorBillingDTO> streamAllDTOs();
+
+  @Query(
+      "select new pl.jarekzegzula.contractorBilling.dto.ContractorBillingDTO("
+          + "b.id, b.contractor.id, b.workedHours, b.year, b.month, "
+          + "b.contractorRemuneration, b.clientCharge, b.profit) "
+          + "from ContractorBilling b "
+          + "where b.year = :year and b.month = :month "
+          + "order by b.id")
+  List<ContractorBillingDTO> findDTOsByYearAndMonth(
+      @Param("year") Year year, @Param("month") Month month);
+
+  @Query(
+      "select new pl.jarekzegzula.contractorBilling.dto.ContractorBillingDTO("
+          + "b.id, b.contractor.id, b.workedHours, b.year, b.month, "
+          + "b.contractorRemuneration, b.clientCharge, b.profit) "
+          + "from ContractorBilling b "
+          + "where b.id > :after "
+          + "order by b.id")
+  List<ContractorBillingDTO> findDTOsAfterId(@Param("after") Integer after, Pageable pageable);
+
+  @Query(
+      "select new pl.jarekzegzula.contractorBilling.dto.ContractorBillingDTO("
+          + "b.id, b.contractor.id, b.workedHours, b.year, b.month, "
+          + "b.contractorRemuneration, b.clientCharge, b.profit) "
+          + "from ContractorBilling b "
+          + "order by b.billingPeriod, b.id")
+  List<ContractorBillingDTO> findFirstDTOsByPeriod(Pageable pageable);
+
+  @Query(
+      "select new pl.jarekzegzula.contractorBilling.dto.ContractorBillingDTO("
+          + "b.id, b.contractor.id, b.workedHours, b.year, b.month, "
+          + "b.contractorRemuneration, b.clientCharge, b.profit) "
+          + "from ContractorBilling b "
+          + "where b.billingPeriod >= :period "
+          + "and (b.billingPeriod > :period or b.id > :after) "
+          + "order by b.billingPeriod, b.id")
+  List<ContractorBillingDTO> findDTOsByPeriodAfter(
+      @Param("period") Integer period, @Param("after") Integer after, Pageable pageable);
+
+  @Query(
+      "select new pl.jarekzegzula.contractorBilling.dto.ContractorBillingMonthlySummary("
+          + "count(b), sum(b.workedHours), sum(b.contractorRemuneration), "
+          + "sum(b.clientCharge), sum(b.profit)) "
+          + "from ContractorBilling b "
+          + "where b.year = :year and b.month = :month")
+  ContractorBillingMonthlySummary summarizeByYearAndMonth(
+      @Param("year") Year year, @Param("month") Month month);
+
+  @Query(
+      "select new pl.jarekzegzula.contractorBilling.dto.ContractorBillingKey("
+          + "b.contractor.id, b.year, b.month) "
+          + "from ContractorBilling b "
+          + "where b.contractor.id in :contractorIds and b.year in :years")
+  List<ContractorBillingKey> findKeysByContractorIdInAndYearIn(
+      @Param("contractorIds") Collection<Integer> contractorIds,
+      @Param("years") Collection<Year> years);
 }
@@ -1,13 +1,22 @@
 package pl.jarekzegzula.contractorBilling;
 
+import io.micrometer.core.annotation.Timed;
 import jakarta.transaction.Transactional;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import pl.jarekzegzula.calc.FixedPointMoney;
 import pl.jarekzegzula.contractor.Contractor;
 import pl.jarekzegzula.contractor.ContractorRepository;
+import pl.jarekzegzula.contractorBilling.dto.ContractorBillingBatchResult;
 import pl.jarekzegzula.contractorBilling.dto.ContractorBillingDTO;
+import pl.jarekzegzula.contractorBilling.dto.ContractorBillingKey;
 import pl.jarekzegzula.requests.addNewRequest.NewContractorBillingRequest;
 import pl.jarekzegzula.requests.updateRequest.UpdateContractorBillingHoursRequest;
+import pl.jarekzegzula.system.KeysetPage;
+import pl.jarekzegzula.system.exception.BatchSizeExceededException;
 import pl.jarekzegzula.system.exception.ContractorAlreadyExistInGivenTimeException;
 import pl.jarekzegzula.system.exception.ObjectNotFoundException;
 import pl.jarekzegzula.system.exception.SameHoursOrLessThanZeroException;
@@ -15,8 +24,9 @@ import pl.jarekzegzula.system.exception.SameHoursOrLessThanZeroException;
 import static pl.jarekzegzula.system.Constants.*;
 
 import java.time.*;
-import java.util.List;
-import java.util.Objects;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional
@@ -25,17 +35,50 @@ public class ContractorBillingService {
   private final ContractorBillingRepository contractorBillingRepository;
   private final ContractorRepository contractorRepository;
 
+  private final ContractorBillingJdbcRepository contractorBillingJdbcRepository;
+
+  private final ApplicationEventPublisher eventPublisher;
+
   @Autowired
   public ContractorBillingService(
       ContractorBillingRepository contractorBillingRepository,
-      ContractorRepository contractorRepository) {
+      ContractorRepository contractorRepository,
+      ContractorBillingJdbcRepository contractorBillingJdbcRepository,
+      ApplicationEventPublisher eventPublisher) {
     this.contractorBillingRepository = contractorBillingRepository;
     this.contractorRepository = contractorRepository;
+    this.contractorBillingJdbcRepository = contractorBillingJdbcRepository;
+    this.eventPublisher = eventPublisher;
   }
 
-  public List<ContractorBilling> findAll() {
+  public List<ContractorBillingDTO> findAllDTOs() {
 
-    return contractorBillingRepository.findAll();
+    return contractorBillingRepository.findAllDTOs();
+  }
+
+  public KeysetPage<ContractorBillingDTO> findDTOsPage(
+      String after, Integer limit, BillingSortOrder sortOrder) {
+
+    int pageSize = KeysetPage.resolveLimit(limit);
+    Pageable pageable = PageRequest.ofSize(pageSize + 1);
+
+    if (sortOrder != BillingSortOrder.PERIOD) {
+      List<ContractorBillingDTO> rows =
+          contractorBillingRepository.findDTOsAfterId(
+              after == null ? ZERO : KeysetPage.parseId(after), pageable);
+      return KeysetPage.of(rows, pageSize, ContractorBillingDTO::getId);
+    }
+
+    List<ContractorBillingDTO> rows;
+    if (after == null) {
+      rows = contractorBillingRepository.findFirstDTOsByPeriod(pageable);
+    } else {
+      BillingPeriodCursor cursor = BillingPeriodCursor.parse(after);
+      rows =
+          contractorBillingRepository.findDTOsByPeriodAfter(
+              cursor.billingPeriod(), cursor.id(), pageable);
+    }
+    return KeysetPage.of(rows, pageSize, BillingPeriodCursor::of);
   }
 
   public ContractorBilling getContractorBillingById(Integer id) {
@@ -54,12 +97,132 @@ public class ContractorBillingService {
     if (request.workedHours() < 0) {
       throw new SameHoursOrLessThanZeroException("Given data is less or equal to zero");
     }
-    if (contractorBillingRepository.existsByContractorIdAndYearAndMonth(
-        request.id(), request.year(), request.month())) {
-      throw new ContractorAlreadyExistInGivenTimeException(
-          "Contractor billing at given date already exists");
+
+    ContractorBilling contractorBilling = new ContractorBilling(request, contractor);
+    Integer id =
+        contractorBillingJdbcRepository
+            .insertIfAbsent(contractorBilling)
+            .orElseThrow(
+                () ->
+                    new ContractorAlreadyExistInGivenTimeException(
+                        "Contractor billing at given date already exists"));
+    contractorBilling.setId(id);
+    eventPublisher.publishEvent(ContractorBillingsChangedEvent.of(contractorBilling));
+    return contractorBilling;
+  }
+
+  /**
+   * Adds many billings at once. Contractors and already existing billings are resolved with one
+   * query each, accepted rows are inserted in one statement that skips rows a concurrent request
+   * inserted meanwhile, and every row gets its own result, so a rejected row does not force the
+   * client to resend the whole batch.
+   */
+  @Timed(value = "billing.batch", description = "Time to add a batch of billings")
+  public List<ContractorBillingBatchResult> addNewContractorBillings(
+      List<NewContractorBillingRequest> requests) {
+
+    if (requests.size() > BILLING_BATCH_MAX_SIZE) {
+      throw new BatchSizeExceededException(
+          "Batch contains " + requests.size() + " billings, limit is " + BILLING_BATCH_MAX_SIZE);
+    }
+
+    Set<Integer> contractorIds = new HashSet<>();
+    Set<Year> years = new HashSet<>();
+    for (NewContractorBillingRequest request : requests) {
+      if (isComplete(request)) {
+        contractorIds.add(request.id());
+        years.add(request.year());
+      }
     }
-    return contractorBillingRepository.save(new ContractorBilling(request, contractor));
+
+    Map<Integer, Contractor> contractors =
+        contractorIds.isEmpty()
+            ? Map.of()
+            : contractorRepository.findAllById(contractorIds).stream()
+                .collect(Collectors.toMap(Contractor::getId, Function.identity()));
+
+    Set<ContractorBillingKey> takenKeys =
+        contractorIds.isEmpty()
+            ? new HashSet<>()
+            : new HashSet<>(
+                contractorBillingRepository.findKeysByContractorIdInAndYearIn(contractorIds, years));
+
+    ContractorBillingBatchResult[] results = new ContractorBillingBatchResult[requests.size()];
+    List<ContractorBilling> acceptedBillings = new ArrayList<>();
+    List<Integer> acceptedIndexes = new ArrayList<>();
+
+    for (int i = 0; i < requests.size(); i++) {
+      NewContractorBillingRequest request = requests.get(i);
+
+      if (!isComplete(request)) {
+        results[i] =
+            ContractorBillingBatchResult.rejected(
+                i, request == null ? null : request.id(), "Required billing fields are missing");
+        continue;
+      }
+      if (request.workedHours() < ZERO) {
+        results[i] =
+            ContractorBillingBatchResult.rejected(
+                i, request.id(), "Given data is less or equal to zero");
+        continue;
+      }
+      if (!FixedPointMoney.isValidHours(request.workedHours())) {
+        results[i] = ContractorBillingBatchResult.rejected(i, request.id(), INVALID_HOURS_MESSAGE);
+        continue;
+      }
+      if (!request.isYearInRange()) {
+        results[i] = ContractorBillingBatchResult.rejected(i, request.id(), INVALID_YEAR_MESSAGE);
+        continue;
+      }
+      Contractor contractor = contractors.get(request.id());
+      if (contractor == null) {
+        results[i] =
+            ContractorBillingBatchResult.rejected(
+                i, request.id(), "Could not find contractor with Id " + request.id());
+        continue;
+      }
+      if (!takenKeys.add(new ContractorBillingKey(request.id(), request.year(), request.month()))) {
+        results[i] =
+            ContractorBillingBatchResult.rejected(
+                i, request.id(), "Contractor billing at given date already exists");
+        continue;
+      }
+      acceptedBillings.add(new ContractorBilling(request, contractor));
+      acceptedIndexes.add(i);
+    }
+
+    Set<Integer> insertedIds =
+        acceptedBillings.isEmpty()
+            ? Set.of()
+            : contractorBillingJdbcRepository.insertAllIfAbsent(acceptedBillings);
+
+    List<ContractorBilling> insertedBillings = new ArrayList<>();
+    for (int i = 0; i < acceptedBillings.size(); i++) {
+      ContractorBilling billing = acceptedBillings.get(i);
+      int index = acceptedIndexes.get(i);
+      Integer contractorId = requests.get(index).id();
+      if (insertedIds.contains(billing.getId())) {
+        insertedBillings.add(billing);
+        results[index] =
+            ContractorBillingBatchResult.accepted(index, contractorId, billing.getId());
+      } else {
+        results[index] =
+            ContractorBillingBatchResult.rejected(
+                index, contractorId, "Contractor billing at given date already exists");
+      }
+    }
+    if (!insertedBillings.isEmpty()) {
+      eventPublisher.publishEvent(ContractorBillingsChangedEvent.of(insertedBillings));
+    }
+    return Arrays.asList(results);
+  }
+
+  private static boolean isComplete(NewContractorBillingRequest request) {
+    return request != null
+        && request.id() != null
+        && request.workedHours() != null
+        && request.year() != null
+        && request.month() != null;
   }
 
   public void updateContractorBillingWorkedHours(
@@ -73,39 +236,21 @@ public class ContractorBillingService {
     if (!Objects.equals(updateRequest.workedHours(), contractor.getWorkedHours())
         && updateRequest.workedHours() >= ZERO) {
       contractor.setWorkedHours(updateRequest.workedHours());
+      contractor.recalculateAmounts();
+      eventPublisher.publishEvent(ContractorBillingsChangedEvent.of(contractor));
     } else {
       throw new SameHoursOrLessThanZeroException(
           "The given data to be changed is the same or less than zero");
     }
   }
 
-  public ContractorBillingReportByMonth getContractorBillingsMonthlyReport(Year year, Month month) {
-
-    List<ContractorBilling> contractorsByYearAndMonth =
-        this.contractorBillingRepository.findByYearAndMonth(year, month);
-
-    List<ContractorBillingDTO> contractorBillingDTOS =
-        getContractorBillingDTOS(contractorsByYearAndMonth);
-
-    if (!contractorsByYearAndMonth.isEmpty()) {
-
-      return new ContractorBillingReportByMonth(contractorBillingDTOS, year, month);
-
-    } else {
-      throw new ObjectNotFoundException("contractor billings", year.toString(), month.name());
-    }
-  }
-
-  public static List<ContractorBillingDTO> getContractorBillingDTOS(
-      List<ContractorBilling> contractorsByYearAndMonth) {
-    return contractorsByYearAndMonth.stream().map(ContractorBillingDTO::new).toList();
-  }
-
   public void deleteContractorBillingById(Integer id) {
-    this.contractorBillingRepository
-        .findById(id)
-        .orElseThrow(() -> new ObjectNotFoundException("Contractor Billing", id));
+    ContractorBilling contractorBilling =
+        this.contractorBillingRepository
+            .findById(id)
+            .orElseThrow(() -> new ObjectNotFoundException("Contractor Billing", id));
 
     this.contractorBillingRepository.deleteById(id);
+    eventPublisher.publishEvent(ContractorBillingsChangedEvent.of(contractorBilling));
   }
 }
@@ -0,0 +1,26 @@
+package pl.jarekzegzula.contractorBilling;
+
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+/** Published whenever billings are inserted, updated or deleted. */
+public record ContractorBillingsChangedEvent(Set<Integer> contractorIds, Set<YearMonth> periods) {
+
+  public static ContractorBillingsChangedEvent of(ContractorBilling contractorBilling) {
+    return of(Set.of(contractorBilling));
+  }
+
+  public static ContractorBillingsChangedEvent of(
+      Collection<ContractorBilling> contractorBillings) {
+    Set<Integer> contractorIds = new HashSet<>();
+    Set<YearMonth> periods = new HashSet<>();
+    for (ContractorBilling contractorBilling : contractorBillings) {
+      contractorIds.add(contractorBilling.getContractor().getId());
+      periods.add(
+          YearMonth.of(contractorBilling.getYear().getValue(), contractorBilling.getMonth()));
+    }
+    return new ContractorBillingsChangedEvent(contractorIds, periods);
+  }
+}
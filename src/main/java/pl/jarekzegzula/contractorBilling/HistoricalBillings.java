@@ -0,0 +1,72 @@
+package pl.jarekzegzula.contractorBilling;
+
+import java.util.Arrays;
+
+/** Billing hours and stored amounts kept in primitive columns, one index per billing. */
+public final class HistoricalBillings {
+
+  private static final int INITIAL_CAPACITY = 1024;
+
+  private int size;
+
+  private int[] contractorIds = new int[INITIAL_CAPACITY];
+
+  private int[] months = new int[INITIAL_CAPACITY];
+
+  private double[] workedHours = new double[INITIAL_CAPACITY];
+
+  private long[] remunerationCents = new long[INITIAL_CAPACITY];
+
+  private long[] clientChargeCents = new long[INITIAL_CAPACITY];
+
+  public void add(
+      int contractorId,
+      int month,
+      double workedHours,
+      long remunerationCents,
+      long clientChargeCents) {
+    if (size == contractorIds.length) {
+      grow();
+    }
+    this.contractorIds[size] = contractorId;
+    this.months[size] = month;
+    this.workedHours[size] = workedHours;
+    this.remunerationCents[size] = remunerationCents;
+    this.clientChargeCents[size] = clientChargeCents;
+    size++;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public int contractorId(int index) {
+    return contractorIds[index];
+  }
+
+  /** Month of year, 1 to 12. */
+  public int month(int index) {
+    return months[index];
+  }
+
+  public double workedHours(int index) {
+    return workedHours[index];
+  }
+
+  public long remunerationCents(int index) {
+    return remunerationCents[index];
+  }
+
+  public long clientChargeCents(int index) {
+    return clientChargeCents[index];
+  }
+
+  private void grow() {
+    int capacity = contractorIds.length * 2;
+    contractorIds = Arrays.copyOf(contractorIds, capacity);
+    months = Arrays.copyOf(months, capacity);
+    workedHours = Arrays.copyOf(workedHours, capacity);
+    remunerationCents = Arrays.copyOf(remunerationCents, capacity);
+    clientChargeCents = Arrays.copyOf(clientChargeCents, capacity);
+  }
+}
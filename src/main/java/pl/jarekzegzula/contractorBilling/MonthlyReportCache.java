@@ -0,0 +1,49 @@
+package pl.jarekzegzula.contractorBilling;
+
+import static pl.jarekzegzula.system.Constants.*;
+
+import java.time.YearMonth;
+import java.util.function.Supplier;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import pl.jarekzegzula.system.VersionedCache;
+
+/**
+ * Monthly reports keyed by {@link YearMonth}. Reports with and without detail rows are kept in
+ * separate caches; both are evicted for a month once a transaction changing its billings commits,
+ * and a report loaded before that eviction is not stored.
+ */
+@Component
+public class MonthlyReportCache {
+
+  private final VersionedCache reports;
+
+  private final VersionedCache reportTotals;
+
+  public MonthlyReportCache(CacheManager cacheManager) {
+    this.reports = new VersionedCache(cacheManager.getCache(MONTHLY_REPORTS_CACHE));
+    this.reportTotals = new VersionedCache(cacheManager.getCache(MONTHLY_REPORT_TOTALS_CACHE));
+  }
+
+  public ContractorBillingReportByMonth get(
+      YearMonth yearMonth,
+      boolean includeDetails,
+      Supplier<ContractorBillingReportByMonth> loader) {
+    return cacheFor(includeDetails).get(yearMonth, ContractorBillingReportByMonth.class, loader);
+  }
+
+  public void evict(YearMonth yearMonth) {
+    reports.evict(yearMonth);
+    reportTotals.evict(yearMonth);
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onContractorBillingsChanged(ContractorBillingsChangedEvent event) {
+    event.periods().forEach(this::evict);
+  }
+
+  private VersionedCache cacheFor(boolean includeDetails) {
+    return includeDetails ? reports : reportTotals;
+  }
+}
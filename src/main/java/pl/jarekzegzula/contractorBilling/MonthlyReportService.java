@@ -0,0 +1,74 @@
+package pl.jarekzegzula.contractorBilling;
+
+import io.micrometer.core.annotation.Timed;
+import java.time.Month;
+import java.time.Year;
+import java.time.YearMonth;
+import java.util.List;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import pl.jarekzegzula.calc.WorkingCalendar;
+import pl.jarekzegzula.contractorBilling.dto.ContractorBillingDTO;
+import pl.jarekzegzula.contractorBilling.dto.ContractorBillingMonthlySummary;
+import pl.jarekzegzula.system.exception.ObjectNotFoundException;
+
+/**
+ * Serves monthly reports from the {@link MonthlyReportCache}. The cache is checked outside any
+ * transaction; only a miss opens a read-only transaction to build the report.
+ */
+@Service
+public class MonthlyReportService {
+
+  private final ContractorBillingRepository contractorBillingRepository;
+
+  private final MonthlyReportCache monthlyReportCache;
+
+  private final WorkingCalendar workingCalendar;
+
+  private final TransactionTemplate transactionTemplate;
+
+  public MonthlyReportService(
+      ContractorBillingRepository contractorBillingRepository,
+      MonthlyReportCache monthlyReportCache,
+      WorkingCalendar workingCalendar,
+      PlatformTransactionManager transactionManager) {
+    this.contractorBillingRepository = contractorBillingRepository;
+    this.monthlyReportCache = monthlyReportCache;
+    this.workingCalendar = workingCalendar;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.transactionTemplate.setReadOnly(true);
+  }
+
+  @Timed(value = "contractor.billing.report", description = "Time to build a monthly report")
+  public ContractorBillingReportByMonth getMonthlyReport(
+      Year year, Month month, boolean includeDetails) {
+    return monthlyReportCache.get(
+        YearMonth.of(year.getValue(), month),
+        includeDetails,
+        () -> transactionTemplate.execute(status -> buildReport(year, month, includeDetails)));
+  }
+
+  private ContractorBillingReportByMonth buildReport(
+      Year year, Month month, boolean includeDetails) {
+
+    ContractorBillingMonthlySummary summary =
+        this.contractorBillingRepository.summarizeByYearAndMonth(year, month);
+
+    if (summary.billingsCount() == 0) {
+      throw new ObjectNotFoundException("contractor billings", year.toString(), month.name());
+    }
+
+    List<ContractorBillingDTO> contractorBillingDTOS =
+        includeDetails
+            ? this.contractorBillingRepository.findDTOsByYearAndMonth(year, month)
+            : null;
+
+    return new ContractorBillingReportByMonth(
+        summary,
+        contractorBillingDTOS,
+        year,
+        month,
+        workingCalendar.workingHours(YearMonth.of(year.getValue(), month)));
+  }
+}
@@ -0,0 +1,15 @@
+package pl.jarekzegzula.contractorBilling;
+
+public enum Quarter {
+  Q1,
+
+  Q2,
+
+  Q3,
+
+  Q4;
+
+  public int getValue() {
+    return ordinal() + 1;
+  }
+}
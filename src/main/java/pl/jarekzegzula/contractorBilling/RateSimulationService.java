@@ -0,0 +1,173 @@
+package pl.jarekzegzula.contractorBilling;
+
+import static pl.jarekzegzula.calc.Calculator.calculateMonthlyEarningsForContractor;
+import static pl.jarekzegzula.calc.FixedPointMoney.toBigDecimal;
+
+import io.micrometer.core.annotation.Timed;
+import java.time.Month;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import pl.jarekzegzula.calc.BatchPaymentCalculator;
+import pl.jarekzegzula.calc.PaymentBatch;
+import pl.jarekzegzula.calc.PaymentBatchResult;
+import pl.jarekzegzula.contract.ContractType;
+import pl.jarekzegzula.contractor.Contractor;
+import pl.jarekzegzula.contractor.ContractorRepository;
+import pl.jarekzegzula.contractorBilling.dto.RateSimulationResult;
+import pl.jarekzegzula.contractorBilling.dto.SimulationDelta;
+import pl.jarekzegzula.requests.simulationRequest.ContractorTermsOverride;
+import pl.jarekzegzula.requests.simulationRequest.RateSimulationRequest;
+import pl.jarekzegzula.system.exception.ObjectNotFoundException;
+
+/**
+ * Answers "what if these contractors had had other terms" for one year of billings. The year's
+ * hours are read once into primitive columns and recalculated by the {@link
+ * BatchPaymentCalculator} on copies of the contractors' terms; nothing is written back. Deltas are
+ * the simulated amounts minus the amounts stored on the billings.
+ */
+@Service
+public class RateSimulationService {
+
+  private final ContractorRepository contractorRepository;
+
+  private final ContractorBillingJdbcRepository contractorBillingJdbcRepository;
+
+  public RateSimulationService(
+      ContractorRepository contractorRepository,
+      ContractorBillingJdbcRepository contractorBillingJdbcRepository) {
+    this.contractorRepository = contractorRepository;
+    this.contractorBillingJdbcRepository = contractorBillingJdbcRepository;
+  }
+
+  @Transactional(readOnly = true)
+  @Timed(value = "billing.simulation", description = "Time to simulate a year of billings")
+  public RateSimulationResult simulate(RateSimulationRequest request) {
+    Map<Integer, ContractorTermsOverride> overrides =
+        request.overrides().stream()
+            .collect(
+                Collectors.toMap(
+                    ContractorTermsOverride::contractorId,
+                    Function.identity(),
+                    (first, second) -> second,
+                    LinkedHashMap::new));
+
+    Map<Integer, Contractor> contractors =
+        contractorRepository.findAllById(overrides.keySet()).stream()
+            .collect(Collectors.toMap(Contractor::getId, Function.identity()));
+
+    Map<Integer, Contractor> simulatedTerms = new LinkedHashMap<>();
+    for (ContractorTermsOverride override : overrides.values()) {
+      Contractor contractor = contractors.get(override.contractorId());
+      if (contractor == null) {
+        throw new ObjectNotFoundException("contractor", override.contractorId());
+      }
+      simulatedTerms.put(override.contractorId(), withOverrides(contractor, override));
+    }
+
+    HistoricalBillings billings =
+        contractorBillingJdbcRepository.findHistoricalBillings(
+            request.year(), simulatedTerms.keySet());
+    PaymentBatchResult simulated =
+        BatchPaymentCalculator.calculate(
+            PaymentBatch.of(
+                billings.size(),
+                billings::workedHours,
+                i -> simulatedTerms.get(billings.contractorId(i))),
+            true);
+
+    DeltaSums total = new DeltaSums();
+    Map<Integer, DeltaSums> byContractor = new LinkedHashMap<>();
+    simulatedTerms.keySet().forEach(id -> byContractor.put(id, new DeltaSums()));
+    DeltaSums[] byMonth = new DeltaSums[13];
+
+    for (int i = 0; i < billings.size(); i++) {
+      long remuneration = simulated.remunerationCents()[i];
+      long charge = simulated.clientChargeCents()[i];
+      long storedRemuneration = billings.remunerationCents(i);
+      long storedCharge = billings.clientChargeCents(i);
+
+      total.add(remuneration, charge, storedRemuneration, storedCharge);
+      byContractor
+          .get(billings.contractorId(i))
+          .add(remuneration, charge, storedRemuneration, storedCharge);
+      int month = billings.month(i);
+      if (byMonth[month] == null) {
+        byMonth[month] = new DeltaSums();
+      }
+      byMonth[month].add(remuneration, charge, storedRemuneration, storedCharge);
+    }
+
+    Map<Integer, SimulationDelta> contractorDeltas = new LinkedHashMap<>();
+    byContractor.forEach((id, sums) -> contractorDeltas.put(id, sums.toDelta()));
+    Map<Month, SimulationDelta> monthDeltas = new EnumMap<>(Month.class);
+    for (int month = 1; month < byMonth.length; month++) {
+      if (byMonth[month] != null) {
+        monthDeltas.put(Month.of(month), byMonth[month].toDelta());
+      }
+    }
+    return new RateSimulationResult(request.year(), total.toDelta(), contractorDeltas, monthDeltas);
+  }
+
+  /** A detached copy of the contractor's terms with the overridden fields applied. */
+  private static Contractor withOverrides(Contractor contractor, ContractorTermsOverride override) {
+    Contractor terms = new Contractor();
+    terms.setId(contractor.getId());
+    terms.setContractType(
+        override.contractType() == null
+            ? contractor.getContractType()
+            : ContractType.fromValue(override.contractType()));
+    terms.setHourlyRate(valueOr(override.hourlyRate(), contractor.getHourlyRate()));
+    terms.setMonthlyHourLimit(
+        valueOr(override.monthlyHourLimit(), contractor.getMonthlyHourLimit()));
+    terms.setOvertimeMultiplier(
+        valueOr(override.overtimeMultiplier(), contractor.getOvertimeMultiplier()));
+    terms.setContractorHourPrice(
+        valueOr(override.contractorHourPrice(), contractor.getContractorHourPrice()));
+    terms.setIsOvertimePaid(contractor.getIsOvertimePaid());
+    terms.setMonthlyEarnings(
+        override.hourlyRate() == null && override.monthlyHourLimit() == null
+            ? contractor.getMonthlyEarnings()
+            : calculateMonthlyEarningsForContractor(
+                terms.getHourlyRate(), terms.getMonthlyHourLimit()));
+    return terms;
+  }
+
+  private static <T> T valueOr(T value, T fallback) {
+    return value == null ? fallback : value;
+  }
+
+  private static final class DeltaSums {
+
+    private long count;
+
+    private long remuneration;
+
+    private long clientCharge;
+
+    private long simulatedProfit;
+
+    private long storedProfit;
+
+    void add(long remuneration, long clientCharge, long storedRemuneration, long storedCharge) {
+      this.count++;
+      this.remuneration += remuneration - storedRemuneration;
+      this.clientCharge += clientCharge - storedCharge;
+      this.simulatedProfit += clientCharge - remuneration;
+      this.storedProfit += storedCharge - storedRemuneration;
+    }
+
+    SimulationDelta toDelta() {
+      return new SimulationDelta(
+          count,
+          toBigDecimal(remuneration),
+          toBigDecimal(clientCharge),
+          toBigDecimal(simulatedProfit - storedProfit),
+          toBigDecimal(simulatedProfit));
+    }
+  }
+}
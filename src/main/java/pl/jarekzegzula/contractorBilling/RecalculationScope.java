@@ -0,0 +1,8 @@
+package pl.jarekzegzula.contractorBilling;
+
+/** Which billings are recalculated when a contractor's terms change. */
+public enum RecalculationScope {
+  /** Only billings of the open months, see {@code billing.recalculation.open-months}. */
+  OPEN_MONTHS,
+  ALL
+}
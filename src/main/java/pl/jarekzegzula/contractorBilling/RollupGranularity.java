@@ -0,0 +1,10 @@
+package pl.jarekzegzula.contractorBilling;
+
+/** Period lengths kept in the billing rollup. */
+public enum RollupGranularity {
+  MONTH,
+
+  QUARTER,
+
+  YEAR
+}
@@ -0,0 +1,28 @@
+package pl.jarekzegzula.contractorBilling;
+
+import java.time.Month;
+import java.time.Year;
+import java.time.YearMonth;
+
+/**
+ * A row key of the billing rollup. The key is encoded the same way as in the database: yyyymm for
+ * months, yyyyq for quarters and yyyy for years.
+ */
+public record RollupPeriod(RollupGranularity granularity, int key, String label) {
+
+  public static RollupPeriod month(Year year, Month month) {
+    return new RollupPeriod(
+        RollupGranularity.MONTH,
+        year.getValue() * 100 + month.getValue(),
+        YearMonth.of(year.getValue(), month).toString());
+  }
+
+  public static RollupPeriod quarter(Year year, Quarter quarter) {
+    return new RollupPeriod(
+        RollupGranularity.QUARTER, year.getValue() * 10 + quarter.getValue(), year + "-" + quarter);
+  }
+
+  public static RollupPeriod year(Year year) {
+    return new RollupPeriod(RollupGranularity.YEAR, year.getValue(), year.toString());
+  }
+}
@@ -0,0 +1,13 @@
+package pl.jarekzegzula.contractorBilling.dto;
+
+import java.math.BigDecimal;
+import pl.jarekzegzula.contractorBilling.RollupGranularity;
+
+public record BillingRollupDTO(
+    RollupGranularity granularity,
+    String period,
+    Long billingsCount,
+    Double workedHours,
+    BigDecimal contractorRemuneration,
+    BigDecimal clientCharge,
+    BigDecimal profit) {}
@@ -0,0 +1,16 @@
+package pl.jarekzegzula.contractorBilling.dto;
+
+public record ContractorBillingBatchResult(
+    int index, Integer contractorId, Integer contractorBillingId, boolean success, String message) {
+
+  public static ContractorBillingBatchResult accepted(
+      int index, Integer contractorId, Integer contractorBillingId) {
+    return new ContractorBillingBatchResult(
+        index, contractorId, contractorBillingId, true, "Contractor billing added successfully");
+  }
+
+  public static ContractorBillingBatchResult rejected(
+      int index, Integer contractorId, String message) {
+    return new ContractorBillingBatchResult(index, contractorId, null, false, message);
+  }
+}
@@ -1,13 +1,15 @@
 package pl.jarekzegzula.contractorBilling.dto;
 
-import lombok.Data;
+import lombok.AllArgsConstructor;
+import lombok.Value;
 import pl.jarekzegzula.contractorBilling.ContractorBilling;
 
 import java.math.BigDecimal;
 import java.time.Month;
 import java.time.Year;
 
-@Data
+@Value
+@AllArgsConstructor
 public class ContractorBillingDTO {
 
   private Integer id;
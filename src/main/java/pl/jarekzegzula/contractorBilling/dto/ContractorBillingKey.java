@@ -0,0 +1,6 @@
+package pl.jarekzegzula.contractorBilling.dto;
+
+import java.time.Month;
+import java.time.Year;
+
+public record ContractorBillingKey(Integer contractorId, Year year, Month month) {}
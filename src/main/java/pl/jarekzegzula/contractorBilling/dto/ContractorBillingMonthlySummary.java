@@ -0,0 +1,10 @@
+package pl.jarekzegzula.contractorBilling.dto;
+
+import java.math.BigDecimal;
+
+public record ContractorBillingMonthlySummary(
+    Long billingsCount,
+    Double workedHours,
+    BigDecimal contractorRemuneration,
+    BigDecimal clientCharge,
+    BigDecimal profit) {}
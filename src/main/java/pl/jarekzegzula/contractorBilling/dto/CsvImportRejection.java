@@ -0,0 +1,3 @@
+package pl.jarekzegzula.contractorBilling.dto;
+
+public record CsvImportRejection(long line, Integer contractorId, String message) {}
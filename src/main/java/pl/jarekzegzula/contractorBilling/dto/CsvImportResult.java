@@ -0,0 +1,10 @@
+package pl.jarekzegzula.contractorBilling.dto;
+
+import java.util.List;
+
+/**
+ * Outcome of a CSV import. Every rejected row is counted, but only the first {@code
+ * billing.import.max-reported-rejections} are listed.
+ */
+public record CsvImportResult(
+    long rowsRead, long imported, long rejected, List<CsvImportRejection> rejections) {}
@@ -0,0 +1,11 @@
+package pl.jarekzegzula.contractorBilling.dto;
+
+import java.time.Month;
+import java.time.Year;
+import java.util.Map;
+
+public record RateSimulationResult(
+    Year year,
+    SimulationDelta total,
+    Map<Integer, SimulationDelta> contractors,
+    Map<Month, SimulationDelta> months) {}
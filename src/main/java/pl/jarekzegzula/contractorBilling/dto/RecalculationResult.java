@@ -0,0 +1,7 @@
+package pl.jarekzegzula.contractorBilling.dto;
+
+/**
+ * Outcome of one recalculation batch. {@code remaining} counts the billings still pending after
+ * the batch committed; the scheduled drain picks them up, or the client can ask for another batch.
+ */
+public record RecalculationResult(int recalculated, long remaining) {}
@@ -0,0 +1,11 @@
+package pl.jarekzegzula.contractorBilling.dto;
+
+import java.math.BigDecimal;
+
+/** Simulated amounts minus the stored ones, over a group of billings. */
+public record SimulationDelta(
+    Long billingsCount,
+    BigDecimal contractorRemuneration,
+    BigDecimal clientCharge,
+    BigDecimal profit,
+    BigDecimal simulatedProfit) {}
@@ -0,0 +1,49 @@
+package pl.jarekzegzula.forecast;
+
+import java.sql.PreparedStatement;
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class BillingHistoryRepository {
+
+  private static final String SELECT_HOURS =
+      """
+      SELECT contractor_id, billing_period, worked_hours
+      FROM contractor_management.contractor_billing
+      WHERE contractor_id = ANY (?) AND billing_period >= ?
+      """;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  public BillingHistoryRepository(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  /** Worked hours per contractor and month, from {@code since} onwards. */
+  public Map<Integer, TreeMap<YearMonth, Double>> findMonthlyHours(
+      Collection<Integer> contractorIds, YearMonth since) {
+    Map<Integer, TreeMap<YearMonth, Double>> hours = new HashMap<>();
+    jdbcTemplate.query(
+        connection -> {
+          PreparedStatement statement = connection.prepareStatement(SELECT_HOURS);
+          statement.setArray(1, connection.createArrayOf("integer", contractorIds.toArray()));
+          statement.setInt(2, since.getYear() * 100 + since.getMonthValue());
+          return statement;
+        },
+        (RowCallbackHandler)
+            rs -> {
+              int period = rs.getInt("billing_period");
+              hours
+                  .computeIfAbsent(rs.getInt("contractor_id"), id -> new TreeMap<>())
+                  .put(YearMonth.of(period / 100, period % 100), rs.getDouble("worked_hours"));
+            });
+    return hours;
+  }
+}
@@ -0,0 +1,34 @@
+package pl.jarekzegzula.forecast;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.*;
+import pl.jarekzegzula.system.Result;
+import pl.jarekzegzula.system.StatusCode;
+
+@RestController
+@RequestMapping("${api.endpoint.base-url}/forecast")
+public class ForecastController {
+
+  private final ForecastService forecastService;
+
+  @Autowired
+  public ForecastController(ForecastService forecastService) {
+    this.forecastService = forecastService;
+  }
+
+  @GetMapping
+  public Result getForecast(@RequestParam(value = "months", required = false) Integer months) {
+    return new Result(true, StatusCode.SUCCESS, "Success", forecastService.forecast(months));
+  }
+
+  @GetMapping("{contractorId}")
+  public Result getContractorForecast(
+      @PathVariable("contractorId") Integer contractorId,
+      @RequestParam(value = "months", required = false) Integer months) {
+    return new Result(
+        true,
+        StatusCode.SUCCESS,
+        "Success",
+        forecastService.forecastForContractor(contractorId, months));
+  }
+}
@@ -0,0 +1,10 @@
+package pl.jarekzegzula.forecast;
+
+/** How worked hours are projected into upcoming months. */
+public enum ForecastModel {
+  /** The mean of the hours billed within the last {@code forecast.window} months. */
+  MOVING_AVERAGE,
+
+  /** The hours billed in the same month a year earlier, or the moving average if there were none. */
+  SEASONAL_NAIVE
+}
@@ -0,0 +1,212 @@
+package pl.jarekzegzula.forecast;
+
+import static pl.jarekzegzula.calc.Calculator.*;
+import static pl.jarekzegzula.system.Constants.FORECASTS_CACHE;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import pl.jarekzegzula.contractor.Contractor;
+import pl.jarekzegzula.contractor.ContractorRepository;
+import pl.jarekzegzula.contractor.ContractorTermsChangedEvent;
+import pl.jarekzegzula.contractorBilling.ContractorBillingsChangedEvent;
+import pl.jarekzegzula.forecast.dto.ContractorForecast;
+import pl.jarekzegzula.forecast.dto.ForecastResult;
+import pl.jarekzegzula.forecast.dto.MonthlyForecast;
+import pl.jarekzegzula.system.VersionedCache;
+import pl.jarekzegzula.system.exception.ObjectNotFoundException;
+
+/**
+ * Projects each contractor's worked hours over the next months with the configured {@link
+ * ForecastModel} and prices them with the contractor's current terms. Forecasts are cached per
+ * contractor for the whole {@code forecast.max-months} horizon and evicted once a transaction
+ * changing the contractor's billings or terms commits, so a request only recomputes the
+ * contractors that changed, with one history query for all of them. A forecast computed while
+ * such a transaction commits is not cached.
+ */
+@Service
+public class ForecastService {
+
+  private static final int HISTORY_MONTHS = 12;
+
+  private final ContractorRepository contractorRepository;
+
+  private final BillingHistoryRepository billingHistoryRepository;
+
+  private final VersionedCache forecastCache;
+
+  private final ForecastModel model;
+
+  private final int window;
+
+  private final int maxMonths;
+
+  public ForecastService(
+      ContractorRepository contractorRepository,
+      BillingHistoryRepository billingHistoryRepository,
+      CacheManager cacheManager,
+      @Value("${forecast.model}") ForecastModel model,
+      @Value("${forecast.window}") int window,
+      @Value("${forecast.max-months}") int maxMonths) {
+    if (maxMonths < 1) {
+      throw new IllegalArgumentException("forecast.max-months must be at least 1");
+    }
+    this.contractorRepository = contractorRepository;
+    this.billingHistoryRepository = billingHistoryRepository;
+    this.forecastCache = new VersionedCache(cacheManager.getCache(FORECASTS_CACHE));
+    this.model = model;
+    this.window = Math.max(1, Math.min(window, HISTORY_MONTHS));
+    this.maxMonths = maxMonths;
+  }
+
+  @Transactional(readOnly = true)
+  public ForecastResult forecast(Integer months) {
+    return forecast(months, YearMonth.now().plusMonths(1));
+  }
+
+  @Transactional(readOnly = true)
+  public ContractorForecast forecastForContractor(Integer contractorId, Integer months) {
+    Map<Object, Long> versions = forecastCache.versions();
+    Contractor contractor =
+        contractorRepository
+            .findById(contractorId)
+            .orElseThrow(() -> new ObjectNotFoundException("contractor", contractorId));
+    return forecasts(versions, List.of(contractor), YearMonth.now().plusMonths(1))
+        .get(0)
+        .limit(horizon(months));
+  }
+
+  ForecastResult forecast(Integer months, YearMonth firstMonth) {
+    int horizon = horizon(months);
+    Map<Object, Long> versions = forecastCache.versions();
+    List<ContractorForecast> contractorForecasts = new ArrayList<>();
+    for (ContractorForecast forecast :
+        forecasts(versions, contractorRepository.findAll(), firstMonth)) {
+      contractorForecasts.add(forecast.limit(horizon));
+    }
+    return new ForecastResult(
+        model, totals(contractorForecasts, firstMonth, horizon), contractorForecasts);
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onContractorBillingsChanged(ContractorBillingsChangedEvent event) {
+    event.contractorIds().forEach(forecastCache::evict);
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onContractorTermsChanged(ContractorTermsChangedEvent event) {
+    forecastCache.evict(event.contractorId());
+  }
+
+  /**
+   * Versions must be taken before the contractors are read, so a forecast priced with terms that
+   * changed in the meantime is returned but not cached.
+   */
+  private List<ContractorForecast> forecasts(
+      Map<Object, Long> versions, Collection<Contractor> contractors, YearMonth firstMonth) {
+    Map<Integer, ContractorForecast> result = new LinkedHashMap<>();
+    List<Contractor> stale = new ArrayList<>();
+    for (Contractor contractor : contractors) {
+      ContractorForecast cached = forecastCache.get(contractor.getId(), ContractorForecast.class);
+      if (cached != null && cached.months().get(0).month().equals(firstMonth)) {
+        result.put(contractor.getId(), cached);
+      } else {
+        result.put(contractor.getId(), null);
+        stale.add(contractor);
+      }
+    }
+
+    if (!stale.isEmpty()) {
+      Map<Integer, TreeMap<YearMonth, Double>> history =
+          billingHistoryRepository.findMonthlyHours(
+              stale.stream().map(Contractor::getId).toList(),
+              firstMonth.minusMonths(HISTORY_MONTHS));
+      for (Contractor contractor : stale) {
+        ContractorForecast forecast =
+            forecast(
+                contractor,
+                history.getOrDefault(contractor.getId(), new TreeMap<>()),
+                firstMonth);
+        forecastCache.putIfUnchanged(
+            contractor.getId(), versions.getOrDefault(contractor.getId(), 0L), forecast);
+        result.put(contractor.getId(), forecast);
+      }
+    }
+    return new ArrayList<>(result.values());
+  }
+
+  private ContractorForecast forecast(
+      Contractor contractor, NavigableMap<YearMonth, Double> history, YearMonth firstMonth) {
+    double movingAverage =
+        history.subMap(firstMonth.minusMonths(window), true, firstMonth, false).values().stream()
+            .mapToDouble(Double::doubleValue)
+            .average()
+            .orElse(0);
+
+    List<MonthlyForecast> months = new ArrayList<>(maxMonths);
+    double[] hours = new double[maxMonths];
+    for (int i = 0; i < maxMonths; i++) {
+      YearMonth month = firstMonth.plusMonths(i);
+      hours[i] =
+          switch (model) {
+            case MOVING_AVERAGE -> movingAverage;
+            case SEASONAL_NAIVE ->
+                i >= HISTORY_MONTHS
+                    ? hours[i - HISTORY_MONTHS]
+                    : history.getOrDefault(month.minusYears(1), movingAverage);
+          };
+      hours[i] = Math.round(hours[i] * 100) / 100.0;
+      months.add(price(month, hours[i], contractor));
+    }
+    return new ContractorForecast(contractor.getId(), months);
+  }
+
+  private static MonthlyForecast price(YearMonth month, double hours, Contractor contractor) {
+    BigDecimal remuneration = calculateContractorPayment(hours, contractor);
+    BigDecimal clientCharge = calculateClientsChargeFromContractorHours(hours, contractor);
+    return new MonthlyForecast(
+        month, hours, remuneration, clientCharge, calculateProfit(clientCharge, remuneration));
+  }
+
+  private static List<MonthlyForecast> totals(
+      List<ContractorForecast> contractorForecasts, YearMonth firstMonth, int horizon) {
+    List<MonthlyForecast> totals = new ArrayList<>(horizon);
+    for (int i = 0; i < horizon; i++) {
+      double hours = 0;
+      BigDecimal remuneration = BigDecimal.ZERO;
+      BigDecimal clientCharge = BigDecimal.ZERO;
+      for (ContractorForecast forecast : contractorForecasts) {
+        MonthlyForecast month = forecast.months().get(i);
+        hours += month.workedHours();
+        remuneration = remuneration.add(month.contractorRemuneration());
+        clientCharge = clientCharge.add(month.clientCharge());
+      }
+      totals.add(
+          new MonthlyForecast(
+              firstMonth.plusMonths(i),
+              Math.round(hours * 100) / 100.0,
+              remuneration,
+              clientCharge,
+              calculateProfit(clientCharge, remuneration)));
+    }
+    return totals;
+  }
+
+  private int horizon(Integer months) {
+    if (months == null) {
+      return maxMonths;
+    }
+    return Math.max(1, Math.min(months, maxMonths));
+  }
+}
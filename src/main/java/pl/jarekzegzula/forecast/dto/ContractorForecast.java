@@ -0,0 +1,12 @@
+package pl.jarekzegzula.forecast.dto;
+
+import java.util.List;
+
+public record ContractorForecast(Integer contractorId, List<MonthlyForecast> months) {
+
+  public ContractorForecast limit(int months) {
+    return months >= this.months.size()
+        ? this
+        : new ContractorForecast(contractorId, this.months.subList(0, months));
+  }
+}
@@ -0,0 +1,7 @@
+package pl.jarekzegzula.forecast.dto;
+
+import java.util.List;
+import pl.jarekzegzula.forecast.ForecastModel;
+
+public record ForecastResult(
+    ForecastModel model, List<MonthlyForecast> totals, List<ContractorForecast> contractors) {}
@@ -0,0 +1,11 @@
+package pl.jarekzegzula.forecast.dto;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+
+public record MonthlyForecast(
+    YearMonth month,
+    Double workedHours,
+    BigDecimal contractorRemuneration,
+    BigDecimal clientCharge,
+    BigDecimal profit) {}
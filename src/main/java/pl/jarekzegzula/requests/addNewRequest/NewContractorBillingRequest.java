@@ -1,15 +1,28 @@
 package pl.jarekzegzula.requests.addNewRequest;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Digits;
 import jakarta.validation.constraints.NotNull;
 import org.springframework.web.bind.annotation.RequestParam;
 
 import java.time.Month;
 import java.time.Year;
 
+import static pl.jarekzegzula.calc.FixedPointMoney.*;
+import static pl.jarekzegzula.system.Constants.*;
+
 public record NewContractorBillingRequest(
         @RequestParam(required = true)@NotNull  Integer id,
-        @RequestParam(required = true)@NotNull  Double workedHours,
+        @RequestParam(required = true)@NotNull @Digits(integer = HOURS_INTEGER_DIGITS, fraction = HOURS_SCALE) Double workedHours,
         @RequestParam(required = true)@NotNull  Year year,
         @RequestParam(required = true)@NotNull  Month month
         ) {
+
+    @JsonIgnore
+    @AssertTrue(message = INVALID_YEAR_MESSAGE)
+    public boolean isYearInRange() {
+        return year == null
+                || (year.getValue() >= MIN_BILLING_YEAR && year.getValue() <= MAX_BILLING_YEAR);
+    }
 }
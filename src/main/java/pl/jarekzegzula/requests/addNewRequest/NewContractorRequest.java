@@ -2,18 +2,21 @@ package pl.jarekzegzula.requests.addNewRequest;
 
 
 import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Digits;
 import jakarta.validation.constraints.NotNull;
 import org.springframework.web.bind.annotation.RequestParam;
 
+import static pl.jarekzegzula.calc.FixedPointMoney.*;
+
 public record NewContractorRequest(
         @RequestParam() @NotEmpty String firstName,
         @RequestParam() @NotEmpty String lastName,
         @RequestParam() @NotNull Integer contractType,
-        @RequestParam() @NotNull Double hourlyRate,
+        @RequestParam() @NotNull @Digits(integer = MONEY_INTEGER_DIGITS, fraction = MONEY_SCALE) Double hourlyRate,
         @RequestParam() @NotNull Integer monthlyHourLimit,
         @RequestParam() @NotNull Boolean isOvertimePaid,
-        @RequestParam() @NotNull Double overtimeMultiplier,
-        @RequestParam() @NotNull Double contractorHourPrice
+        @RequestParam() @NotNull @Digits(integer = MULTIPLIER_INTEGER_DIGITS, fraction = MULTIPLIER_SCALE) Double overtimeMultiplier,
+        @RequestParam() @NotNull @Digits(integer = MONEY_INTEGER_DIGITS, fraction = MONEY_SCALE) Double contractorHourPrice
 ) {
 
 }
\ No newline at end of file
@@ -0,0 +1,20 @@
+package pl.jarekzegzula.requests.simulationRequest;
+
+import static pl.jarekzegzula.calc.FixedPointMoney.*;
+
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+
+/** Hypothetical terms for one contractor; {@code null} fields keep the current value. */
+public record ContractorTermsOverride(
+    @NotNull Integer contractorId,
+    @PositiveOrZero @Digits(integer = MONEY_INTEGER_DIGITS, fraction = MONEY_SCALE)
+        Double hourlyRate,
+    @PositiveOrZero @Digits(integer = MONEY_INTEGER_DIGITS, fraction = MONEY_SCALE)
+        Double contractorHourPrice,
+    @PositiveOrZero @Digits(integer = MULTIPLIER_INTEGER_DIGITS, fraction = MULTIPLIER_SCALE)
+        Double overtimeMultiplier,
+    @Positive Integer monthlyHourLimit,
+    Integer contractType) {}
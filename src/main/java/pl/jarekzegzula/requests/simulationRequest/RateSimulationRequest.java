@@ -0,0 +1,10 @@
+package pl.jarekzegzula.requests.simulationRequest;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import java.time.Year;
+import java.util.List;
+
+public record RateSimulationRequest(
+    @NotNull Year year, @NotEmpty List<@Valid ContractorTermsOverride> overrides) {}
@@ -1,11 +1,14 @@
 package pl.jarekzegzula.requests.updateRequest;
 
+import jakarta.validation.constraints.Digits;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.PositiveOrZero;
 import org.springframework.web.bind.annotation.RequestParam;
 
+import static pl.jarekzegzula.calc.FixedPointMoney.*;
+
 public record UpdateContractorBillingHoursRequest(
-        @RequestParam(required = true) @NotNull @PositiveOrZero Double workedHours) {
+        @RequestParam(required = true) @NotNull @PositiveOrZero @Digits(integer = HOURS_INTEGER_DIGITS, fraction = HOURS_SCALE) Double workedHours) {
 
 
 }
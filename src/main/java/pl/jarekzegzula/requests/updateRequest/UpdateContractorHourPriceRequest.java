@@ -1,8 +1,11 @@
 package pl.jarekzegzula.requests.updateRequest;
 
+import jakarta.validation.constraints.Digits;
 import jakarta.validation.constraints.NotNull;
 import org.springframework.web.bind.annotation.RequestParam;
 
+import static pl.jarekzegzula.calc.FixedPointMoney.*;
+
 public record UpdateContractorHourPriceRequest(
-        @RequestParam() @NotNull Double hourPrice) {
+        @RequestParam() @NotNull @Digits(integer = MONEY_INTEGER_DIGITS, fraction = MONEY_SCALE) Double hourPrice) {
 }
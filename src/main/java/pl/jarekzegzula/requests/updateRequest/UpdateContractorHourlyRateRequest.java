@@ -1,8 +1,11 @@
 package pl.jarekzegzula.requests.updateRequest;
 
+import jakarta.validation.constraints.Digits;
 import jakarta.validation.constraints.NotNull;
 import org.springframework.web.bind.annotation.RequestParam;
 
+import static pl.jarekzegzula.calc.FixedPointMoney.*;
+
 public record UpdateContractorHourlyRateRequest(
-        @RequestParam(required = true)@NotNull Double hourlyRate) {
+        @RequestParam(required = true)@NotNull @Digits(integer = MONEY_INTEGER_DIGITS, fraction = MONEY_SCALE) Double hourlyRate) {
 }
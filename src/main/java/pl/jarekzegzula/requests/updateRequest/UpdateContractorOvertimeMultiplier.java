@@ -1,8 +1,11 @@
 package pl.jarekzegzula.requests.updateRequest;
 
+import jakarta.validation.constraints.Digits;
 import jakarta.validation.constraints.NotNull;
 import org.springframework.web.bind.annotation.RequestParam;
 
+import static pl.jarekzegzula.calc.FixedPointMoney.*;
+
 public record UpdateContractorOvertimeMultiplier(
-        @RequestParam @NotNull Double multiplier) {
+        @RequestParam @NotNull @Digits(integer = MULTIPLIER_INTEGER_DIGITS, fraction = MULTIPLIER_SCALE) Double multiplier) {
 }
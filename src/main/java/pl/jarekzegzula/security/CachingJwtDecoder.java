@@ -0,0 +1,93 @@
+package pl.jarekzegzula.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+/**
+ * Keeps successfully verified tokens until their {@code exp}, so a client sending a burst of
+ * requests with one token pays for parsing and RSA verification once. Rejected tokens are never
+ * cached. Verification time is published as {@code jwt.verification} and cache statistics under
+ * {@code cache.*} with {@code cache=verifiedJwts}.
+ */
+public class CachingJwtDecoder implements JwtDecoder {
+
+  private final JwtDecoder delegate;
+
+  private final Cache<String, Jwt> verifiedTokens;
+
+  private final Timer verificationTimer;
+
+  public CachingJwtDecoder(JwtDecoder delegate, long maximumSize, MeterRegistry meterRegistry) {
+    this.delegate = delegate;
+    this.verifiedTokens =
+        Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfter(new UntilTokenExpires())
+            .recordStats()
+            .build();
+    this.verificationTimer =
+        Timer.builder("jwt.verification")
+            .description("Time spent parsing and verifying bearer tokens on cache misses")
+            .register(meterRegistry);
+
+    CaffeineCacheMetrics.monitor(meterRegistry, this.verifiedTokens, "verifiedJwts");
+  }
+
+  @Override
+  public Jwt decode(String token) throws JwtException {
+    String key = hash(token);
+
+    Jwt cached = this.verifiedTokens.getIfPresent(key);
+    if (cached != null
+        && cached.getTokenValue().equals(token)
+        && cached.getExpiresAt().isAfter(Instant.now())) {
+      return cached;
+    }
+
+    Jwt jwt = this.verificationTimer.record(() -> this.delegate.decode(token));
+    if (jwt.getExpiresAt() != null && jwt.getExpiresAt().isAfter(Instant.now())) {
+      this.verifiedTokens.put(key, jwt);
+    }
+    return jwt;
+  }
+
+  private static String hash(String token) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException ex) {
+      throw new IllegalStateException("SHA-256 is not available", ex);
+    }
+  }
+
+  private static class UntilTokenExpires implements Expiry<String, Jwt> {
+
+    @Override
+    public long expireAfterCreate(String key, Jwt jwt, long currentTime) {
+      return Math.max(0, Duration.between(Instant.now(), jwt.getExpiresAt()).toNanos());
+    }
+
+    @Override
+    public long expireAfterUpdate(String key, Jwt jwt, long currentTime, long currentDuration) {
+      return expireAfterCreate(key, jwt, currentTime);
+    }
+
+    @Override
+    public long expireAfterRead(String key, Jwt jwt, long currentTime, long currentDuration) {
+      return currentDuration;
+    }
+  }
+}
@@ -8,20 +8,27 @@ import com.nimbusds.jose.jwk.RSAKey;
 import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
 import com.nimbusds.jose.jwk.source.JWKSource;
 import com.nimbusds.jose.proc.SecurityContext;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.security.KeyPair;
 import java.security.KeyPairGenerator;
 import java.security.NoSuchAlgorithmException;
 import java.security.interfaces.RSAPrivateKey;
 import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.UserCache;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.cache.SpringCacheBasedUserCache;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
@@ -92,8 +99,29 @@ public class SecurityConfiguration {
   }
 
   @Bean
-  public PasswordEncoder passwordEncoder() {
-    return new BCryptPasswordEncoder(BCRYPT_PASSWORD_STRENGTH);
+  public PasswordEncoder passwordEncoder(
+      @Value("${security.verified-credentials.maximum-size}") long verifiedCredentialsMaximumSize,
+      @Value("${security.verified-credentials.expire-after-write}")
+          Duration verifiedCredentialsExpireAfterWrite) {
+    return new VerifiedCredentialsPasswordEncoder(
+        new BCryptPasswordEncoder(BCRYPT_PASSWORD_STRENGTH),
+        verifiedCredentialsMaximumSize,
+        verifiedCredentialsExpireAfterWrite);
+  }
+
+  @Bean
+  public UserCache userCache(CacheManager cacheManager) {
+    return new SpringCacheBasedUserCache(cacheManager.getCache(USERS_CACHE));
+  }
+
+  @Bean
+  public DaoAuthenticationProvider authenticationProvider(
+      UserDetailsService userDetailsService, PasswordEncoder passwordEncoder, UserCache userCache) {
+    DaoAuthenticationProvider authenticationProvider = new DaoAuthenticationProvider();
+    authenticationProvider.setUserDetailsService(userDetailsService);
+    authenticationProvider.setPasswordEncoder(passwordEncoder);
+    authenticationProvider.setUserCache(userCache);
+    return authenticationProvider;
   }
 
   @Bean
@@ -104,8 +132,13 @@ public class SecurityConfiguration {
   }
 
   @Bean
-  public JwtDecoder jwtDecoder() {
-    return NimbusJwtDecoder.withPublicKey(this.publicKey).build();
+  public JwtDecoder jwtDecoder(
+      @Value("${security.verified-jwts.maximum-size}") long verifiedJwtsMaximumSize,
+      MeterRegistry meterRegistry) {
+    return new CachingJwtDecoder(
+        NimbusJwtDecoder.withPublicKey(this.publicKey).build(),
+        verifiedJwtsMaximumSize,
+        meterRegistry);
   }
 
   @Bean
@@ -0,0 +1,99 @@
+package pl.jarekzegzula.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.HexFormat;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.event.TransactionalEventListener;
+import pl.jarekzegzula.user.AppUserDeletedEvent;
+
+/**
+ * Remembers successful password checks for a short time, so HTTP Basic clients do not pay for a
+ * cost-12 BCrypt verification on every request.
+ *
+ * <p>Entries are keyed by the stored hash and hold an HMAC of the verified raw password under a
+ * key generated at startup; plain passwords are never kept. A cached HMAC is compared in constant
+ * time and a mismatch always falls back to the delegate. Changing a password changes the stored
+ * hash, so old entries can no longer match and simply expire.
+ */
+public class VerifiedCredentialsPasswordEncoder implements PasswordEncoder {
+
+  private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+  private final PasswordEncoder delegate;
+
+  private final Cache<String, byte[]> verifiedCredentials;
+
+  private final SecretKeySpec secretKey;
+
+  public VerifiedCredentialsPasswordEncoder(
+      PasswordEncoder delegate, long maximumSize, Duration expireAfterWrite) {
+    this.delegate = delegate;
+    this.verifiedCredentials =
+        Caffeine.newBuilder().maximumSize(maximumSize).expireAfterWrite(expireAfterWrite).build();
+
+    byte[] secret = new byte[32];
+    new SecureRandom().nextBytes(secret);
+    this.secretKey = new SecretKeySpec(secret, HMAC_ALGORITHM);
+  }
+
+  @Override
+  public String encode(CharSequence rawPassword) {
+    return delegate.encode(rawPassword);
+  }
+
+  @Override
+  public boolean matches(CharSequence rawPassword, String encodedPassword) {
+    if (rawPassword == null || encodedPassword == null) {
+      return delegate.matches(rawPassword, encodedPassword);
+    }
+
+    String slot = HexFormat.of().formatHex(hmac(encodedPassword));
+    byte[] fingerprint = hmac(encodedPassword + '\u0000' + rawPassword);
+
+    byte[] verifiedFingerprint = verifiedCredentials.getIfPresent(slot);
+    if (verifiedFingerprint != null && MessageDigest.isEqual(verifiedFingerprint, fingerprint)) {
+      return true;
+    }
+
+    boolean matches = delegate.matches(rawPassword, encodedPassword);
+    if (matches) {
+      verifiedCredentials.put(slot, fingerprint);
+    }
+    return matches;
+  }
+
+  @Override
+  public boolean upgradeEncoding(String encodedPassword) {
+    return delegate.upgradeEncoding(encodedPassword);
+  }
+
+  /** Forgets a verified password, e.g. when its owner is deleted. */
+  public void evict(String encodedPassword) {
+    if (encodedPassword != null) {
+      verifiedCredentials.invalidate(HexFormat.of().formatHex(hmac(encodedPassword)));
+    }
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onAppUserDeleted(AppUserDeletedEvent event) {
+    evict(event.encodedPassword());
+  }
+
+  private byte[] hmac(String value) {
+    try {
+      Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+      mac.init(secretKey);
+      return mac.doFinal(value.getBytes(StandardCharsets.UTF_8));
+    } catch (GeneralSecurityException ex) {
+      throw new IllegalStateException("HMAC is not available", ex);
+    }
+  }
+}
@@ -0,0 +1,62 @@
+package pl.jarekzegzula.system;
+
+import static pl.jarekzegzula.system.Constants.*;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Bounded in-memory caches. Every cache records statistics, so Actuator publishes hit, miss and
+ * eviction counts for it under the {@code cache.*} metrics.
+ */
+@Configuration
+public class CacheConfiguration {
+
+  @Bean
+  public CacheManager cacheManager(
+      @Value("${cache.monthly-reports.maximum-size}") long monthlyReportsMaximumSize,
+      @Value("${cache.monthly-reports.expire-after-write}") Duration monthlyReportsExpireAfterWrite,
+      @Value("${cache.users.maximum-size}") long usersMaximumSize,
+      @Value("${cache.users.expire-after-write}") Duration usersExpireAfterWrite,
+      @Value("${cache.forecasts.maximum-size}") long forecastsMaximumSize,
+      @Value("${cache.forecasts.expire-after-write}") Duration forecastsExpireAfterWrite) {
+
+    CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+
+    cacheManager.registerCustomCache(
+        MONTHLY_REPORTS_CACHE,
+        Caffeine.newBuilder()
+            .maximumSize(monthlyReportsMaximumSize)
+            .expireAfterWrite(monthlyReportsExpireAfterWrite)
+            .recordStats()
+            .build());
+    cacheManager.registerCustomCache(
+        MONTHLY_REPORT_TOTALS_CACHE,
+        Caffeine.newBuilder()
+            .maximumSize(monthlyReportsMaximumSize)
+            .expireAfterWrite(monthlyReportsExpireAfterWrite)
+            .recordStats()
+            .build());
+    cacheManager.registerCustomCache(
+        USERS_CACHE,
+        Caffeine.newBuilder()
+            .maximumSize(usersMaximumSize)
+            .expireAfterWrite(usersExpireAfterWrite)
+            .recordStats()
+            .build());
+    cacheManager.registerCustomCache(
+        FORECASTS_CACHE,
+        Caffeine.newBuilder()
+            .maximumSize(forecastsMaximumSize)
+            .expireAfterWrite(forecastsExpireAfterWrite)
+            .recordStats()
+            .build());
+
+    return cacheManager;
+  }
+}
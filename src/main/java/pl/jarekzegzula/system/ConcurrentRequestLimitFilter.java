@@ -0,0 +1,102 @@
+package pl.jarekzegzula.system;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+import pl.jarekzegzula.system.exception.ServerBusyException;
+
+/**
+ * Caps the number of requests in progress. With open-in-view every request may hold a JDBC
+ * connection until it completes, so the cap should not exceed the Hikari pool size. A request
+ * that waits longer than the acquire timeout is rejected with 503 instead of queueing in Hikari.
+ * Async requests keep their permit until the async processing completes.
+ */
+public class ConcurrentRequestLimitFilter extends OncePerRequestFilter {
+
+  private final Semaphore permits;
+
+  private final Duration acquireTimeout;
+
+  private final HandlerExceptionResolver resolver;
+
+  public ConcurrentRequestLimitFilter(
+      int maxConcurrentRequests, Duration acquireTimeout, HandlerExceptionResolver resolver) {
+    this.permits = new Semaphore(maxConcurrentRequests, true);
+    this.acquireTimeout = acquireTimeout;
+    this.resolver = resolver;
+  }
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+
+    boolean acquired;
+    try {
+      acquired = permits.tryAcquire(acquireTimeout.toMillis(), TimeUnit.MILLISECONDS);
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      acquired = false;
+    }
+    if (!acquired) {
+      resolver.resolveException(
+          request,
+          response,
+          null,
+          new ServerBusyException("Too many requests in progress, try again later"));
+      return;
+    }
+
+    boolean releaseNow = true;
+    try {
+      filterChain.doFilter(request, response);
+      if (request.isAsyncStarted()) {
+        request.getAsyncContext().addListener(new ReleasingAsyncListener());
+        releaseNow = false;
+      }
+    } finally {
+      if (releaseNow) {
+        permits.release();
+      }
+    }
+  }
+
+  private class ReleasingAsyncListener implements AsyncListener {
+
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    @Override
+    public void onComplete(AsyncEvent event) {
+      release();
+    }
+
+    @Override
+    public void onTimeout(AsyncEvent event) {
+      release();
+    }
+
+    @Override
+    public void onError(AsyncEvent event) {
+      release();
+    }
+
+    @Override
+    public void onStartAsync(AsyncEvent event) {}
+
+    private void release() {
+      if (released.compareAndSet(false, true)) {
+        permits.release();
+      }
+    }
+  }
+}
@@ -7,6 +7,37 @@ public class Constants {
 
   public static final Integer WORKDAY = 8;
 
+  /** Constants for ContractorBilling batch ingestion */
+  public static final Integer BILLING_BATCH_MAX_SIZE = 10000;
+
+  /** Rows fetched per round trip by the billing export cursor */
+  public static final String BILLING_EXPORT_FETCH_SIZE = "1000";
+
+  /** Rejection reason for worked hours outside the limits of FixedPointMoney */
+  public static final String INVALID_HOURS_MESSAGE =
+      "Worked hours must have at most 4 integer and 3 fraction digits";
+
+  /** Four digit years keep the generated billing_period column (year * 100 + month) an INTEGER */
+  public static final Integer MIN_BILLING_YEAR = 1;
+
+  public static final Integer MAX_BILLING_YEAR = 9999;
+
+  public static final String INVALID_YEAR_MESSAGE = "Billing year must be between 1 and 9999";
+
+  /** Constants for keyset pagination */
+  public static final Integer DEFAULT_PAGE_LIMIT = 50;
+
+  public static final Integer MAX_PAGE_LIMIT = 1000;
+
+  /** Cache names */
+  public static final String MONTHLY_REPORTS_CACHE = "monthlyReports";
+
+  public static final String MONTHLY_REPORT_TOTALS_CACHE = "monthlyReportTotals";
+
+  public static final String USERS_CACHE = "users";
+
+  public static final String FORECASTS_CACHE = "contractorForecasts";
+
   /** Constants for SecurityConfiguration */
   public static final Integer BCRYPT_PASSWORD_STRENGTH = 12;
 
@@ -0,0 +1,43 @@
+package pl.jarekzegzula.system;
+
+import static pl.jarekzegzula.system.Constants.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import pl.jarekzegzula.system.exception.InvalidCursorException;
+
+/**
+ * One page of a keyset (cursor) paginated listing. {@code nextCursor} is the value to pass as
+ * {@code after} to fetch the following page, or {@code null} on the last page. Listings ordered by
+ * id use the bare id, listings with a compound sort key encode the whole key.
+ */
+public record KeysetPage<T>(List<T> items, String nextCursor) {
+
+  public static int resolveLimit(Integer limit) {
+    if (limit == null) {
+      return DEFAULT_PAGE_LIMIT;
+    }
+    return Math.max(1, Math.min(limit, MAX_PAGE_LIMIT));
+  }
+
+  /**
+   * Builds a page from rows fetched with {@code limit + 1}; the extra row only tells whether
+   * another page exists and is not returned.
+   */
+  public static <T> KeysetPage<T> of(List<T> rows, int limit, Function<T, ?> cursorExtractor) {
+    if (rows.size() <= limit) {
+      return new KeysetPage<>(rows, null);
+    }
+    List<T> items = new ArrayList<>(rows.subList(0, limit));
+    return new KeysetPage<>(items, String.valueOf(cursorExtractor.apply(items.get(limit - 1))));
+  }
+
+  public static int parseId(String cursor) {
+    try {
+      return Integer.parseInt(cursor);
+    } catch (NumberFormatException e) {
+      throw new InvalidCursorException(cursor);
+    }
+  }
+}
@@ -0,0 +1,19 @@
+package pl.jarekzegzula.system;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Enables {@code @Timed} on Spring beans. Controller endpoints are already timed by Actuator as
+ * {@code http.server.requests}, tagged with the mapped uri and method.
+ */
+@Configuration
+public class MetricsConfiguration {
+
+  @Bean
+  public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+    return new TimedAspect(meterRegistry);
+  }
+}
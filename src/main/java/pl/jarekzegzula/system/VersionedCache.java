@@ -0,0 +1,74 @@
+package pl.jarekzegzula.system;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+import org.springframework.cache.Cache;
+
+/**
+ * A {@link Cache} whose evictions also invalidate loads that are still running. Every eviction
+ * bumps a per-key version; a loaded value is stored only if the version it was loaded under is
+ * still current, so a value read before a write committed cannot be put back after that write's
+ * eviction. Versions are kept for every key evicted at least once, which stays small for the
+ * month and contractor keys used here.
+ */
+public final class VersionedCache {
+
+  private final Cache cache;
+
+  private final ConcurrentMap<Object, Long> versions = new ConcurrentHashMap<>();
+
+  public VersionedCache(Cache cache) {
+    this.cache = cache;
+  }
+
+  public <T> T get(Object key, Class<T> type) {
+    return cache.get(key, type);
+  }
+
+  /** Returns the cached value or loads it, storing the result only if the key was not evicted. */
+  public <T> T get(Object key, Class<T> type, Supplier<T> loader) {
+    T cached = cache.get(key, type);
+    if (cached != null) {
+      return cached;
+    }
+    long version = version(key);
+    T value = loader.get();
+    putIfUnchanged(key, version, value);
+    return value;
+  }
+
+  /** The version to pass to {@link #putIfUnchanged}, taken before the value is read. */
+  public long version(Object key) {
+    return versions.getOrDefault(key, 0L);
+  }
+
+  /**
+   * The current version of every key, for loads that learn their keys only while reading. Take it
+   * before the read and pass {@code getOrDefault(key, 0L)} to {@link #putIfUnchanged}.
+   */
+  public Map<Object, Long> versions() {
+    return Map.copyOf(versions);
+  }
+
+  public void putIfUnchanged(Object key, long version, Object value) {
+    versions.compute(
+        key,
+        (k, current) -> {
+          if ((current == null ? 0L : current) == version) {
+            cache.put(key, value);
+          }
+          return current;
+        });
+  }
+
+  public void evict(Object key) {
+    versions.compute(
+        key,
+        (k, current) -> {
+          cache.evict(key);
+          return current == null ? 1L : current + 1;
+        });
+  }
+}
@@ -0,0 +1,63 @@
+package pl.jarekzegzula.system;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.AsyncAnnotationBeanPostProcessor;
+import org.springframework.scheduling.concurrent.ConcurrentTaskScheduler;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+/**
+ * Runs Tomcat request handling, {@code @Async} methods, MVC async requests and scheduled tasks on
+ * virtual threads when {@code app.threads.virtual.enabled=true}.
+ *
+ * <p>Virtual threads remove the Tomcat thread limit, so the database pool becomes the real limit.
+ * {@link ConcurrentRequestLimitFilter} admits at most {@code
+ * app.threads.virtual.max-concurrent-requests} requests at a time. Keep it at or below {@code
+ * spring.datasource.hikari.maximum-pool-size}, which is the default.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfiguration {
+
+  @Bean
+  public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+    return protocolHandler ->
+        protocolHandler.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+  }
+
+  @Bean(
+      name = {
+        TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME,
+        AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME
+      })
+  public AsyncTaskExecutor applicationTaskExecutor() {
+    return new TaskExecutorAdapter(Executors.newVirtualThreadPerTaskExecutor());
+  }
+
+  @Bean
+  public TaskScheduler taskScheduler() {
+    return new ConcurrentTaskScheduler(
+        Executors.newSingleThreadScheduledExecutor(
+            Thread.ofVirtual().name("scheduling-", 0).factory()));
+  }
+
+  @Bean
+  public FilterRegistrationBean<ConcurrentRequestLimitFilter> concurrentRequestLimitFilter(
+      @Value("${app.threads.virtual.max-concurrent-requests}") int maxConcurrentRequests,
+      @Value("${app.threads.virtual.acquire-timeout}") Duration acquireTimeout,
+      @Qualifier("handlerExceptionResolver") HandlerExceptionResolver resolver) {
+    return new FilterRegistrationBean<>(
+        new ConcurrentRequestLimitFilter(maxConcurrentRequests, acquireTimeout, resolver));
+  }
+}
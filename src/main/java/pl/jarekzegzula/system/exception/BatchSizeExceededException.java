@@ -0,0 +1,8 @@
+package pl.jarekzegzula.system.exception;
+
+public class BatchSizeExceededException extends RuntimeException {
+
+  public BatchSizeExceededException(String message) {
+    super(message);
+  }
+}
@@ -72,6 +72,12 @@ public class ExceptionHandlerAdvice {
         ex.getMessage());
   }
 
+  @ExceptionHandler(ServerBusyException.class)
+  @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+  Result handleServerBusyException(ServerBusyException ex) {
+    return new Result(false, StatusCode.SERVICE_UNAVAILABLE, ex.getMessage());
+  }
+
   @ExceptionHandler(AccessDeniedException.class)
   @ResponseStatus(HttpStatus.FORBIDDEN)
   Result handleAccessDeniedException(AccessDeniedException ex) {
@@ -90,6 +96,18 @@ public class ExceptionHandlerAdvice {
     return new Result(false, StatusCode.INVALID_ARGUMENT, ex.getMessage());
   }
 
+  @ExceptionHandler(BatchSizeExceededException.class)
+  @ResponseStatus(HttpStatus.BAD_REQUEST)
+  Result handleBatchSizeExceededException(BatchSizeExceededException ex) {
+    return new Result(false, StatusCode.INVALID_ARGUMENT, ex.getMessage());
+  }
+
+  @ExceptionHandler(InvalidCursorException.class)
+  @ResponseStatus(HttpStatus.BAD_REQUEST)
+  Result handleInvalidCursorException(InvalidCursorException ex) {
+    return new Result(false, StatusCode.INVALID_ARGUMENT, ex.getMessage());
+  }
+
   @ExceptionHandler(NoHandlerFoundException.class)
   @ResponseStatus(HttpStatus.NOT_FOUND)
   Result handleAccessDeniedException(NoHandlerFoundException ex) {
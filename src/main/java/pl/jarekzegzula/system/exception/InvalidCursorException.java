@@ -0,0 +1,8 @@
+package pl.jarekzegzula.system.exception;
+
+public class InvalidCursorException extends RuntimeException {
+
+  public InvalidCursorException(String cursor) {
+    super("Invalid page cursor " + cursor);
+  }
+}
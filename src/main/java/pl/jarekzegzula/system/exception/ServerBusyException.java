@@ -0,0 +1,8 @@
+package pl.jarekzegzula.system.exception;
+
+public class ServerBusyException extends RuntimeException {
+
+  public ServerBusyException(String message) {
+    super(message);
+  }
+}
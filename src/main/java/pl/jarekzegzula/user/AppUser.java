@@ -2,10 +2,14 @@ package pl.jarekzegzula.user;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
-import lombok.AllArgsConstructor;
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -13,10 +17,9 @@ import org.springframework.util.StringUtils;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 
 @Data
-@Builder
-@AllArgsConstructor
 @NoArgsConstructor
 @Entity
 @Table
@@ -43,11 +46,39 @@ public class AppUser implements UserDetails {
   @Column(name = "enabled")
   private Boolean enabled;
 
+  /** Parsed from {@link #roles} on first use; the principal is cached and read on every request. */
+  @Transient
+  @Getter(AccessLevel.NONE)
+  @Setter(AccessLevel.NONE)
+  @EqualsAndHashCode.Exclude
+  @ToString.Exclude
+  private transient List<GrantedAuthority> authorities;
+
+  @Builder
+  public AppUser(Integer id, String username, String password, String roles, Boolean enabled) {
+    this.id = id;
+    this.username = username;
+    this.password = password;
+    this.roles = roles;
+    this.enabled = enabled;
+  }
+
+  public void setRoles(String roles) {
+    this.roles = roles;
+    this.authorities = null;
+  }
+
   @Override
   public Collection<? extends GrantedAuthority> getAuthorities() {
-    return Arrays.stream(StringUtils.tokenizeToStringArray(this.roles, " "))
-        .map(role -> new SimpleGrantedAuthority("ROLE_" + role))
-        .toList();
+    List<GrantedAuthority> parsed = this.authorities;
+    if (parsed == null) {
+      parsed =
+          Arrays.stream(StringUtils.tokenizeToStringArray(this.roles, " "))
+              .<GrantedAuthority>map(role -> new SimpleGrantedAuthority("ROLE_" + role))
+              .toList();
+      this.authorities = parsed;
+    }
+    return parsed;
   }
 
   @Override
@@ -36,7 +36,13 @@ public class AppUserController {
   }
 
   @GetMapping
-  public Result getUsers() {
+  public Result getUsers(
+      @RequestParam(value = "after", required = false) Integer after,
+      @RequestParam(value = "limit", required = false) Integer limit) {
+    if (after != null || limit != null) {
+      return new Result(
+          true, StatusCode.SUCCESS, "Success", appUserService.getUsersPage(after, limit));
+    }
     return new Result(true, StatusCode.SUCCESS, "Success", appUserService.getAllUsers());
   }
 
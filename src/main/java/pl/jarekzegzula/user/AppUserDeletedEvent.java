@@ -0,0 +1,4 @@
+package pl.jarekzegzula.user;
+
+/** Published when a user is deleted, so credential caches can forget the user's password hash. */
+public record AppUserDeletedEvent(String username, String encodedPassword) {}
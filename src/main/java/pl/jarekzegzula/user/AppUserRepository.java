@@ -1,7 +1,9 @@
 package pl.jarekzegzula.user;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface AppUserRepository extends JpaRepository<AppUser, Integer> {
@@ -9,4 +11,6 @@ public interface AppUserRepository extends JpaRepository<AppUser, Integer> {
   Optional<AppUser> findByUsername(String username);
 
   boolean existsByUsername(String username);
+
+  List<AppUser> findByIdGreaterThanOrderByIdAsc(Integer id, Pageable pageable);
 }
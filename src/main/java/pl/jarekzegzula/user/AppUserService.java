@@ -1,5 +1,8 @@
 package pl.jarekzegzula.user;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.security.core.userdetails.UserCache;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -7,10 +10,13 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import pl.jarekzegzula.converter.AppUserToAppUserDtoConverter;
 import pl.jarekzegzula.requests.addNewRequest.NewAppUserRequest;
+import pl.jarekzegzula.system.KeysetPage;
 import pl.jarekzegzula.system.exception.ObjectNotFoundException;
 import pl.jarekzegzula.system.exception.UserAlreadyExistException;
 import pl.jarekzegzula.user.dto.AppUserDto;
 
+import static pl.jarekzegzula.system.Constants.*;
+
 import java.util.List;
 
 @Service
@@ -22,12 +28,20 @@ public class AppUserService implements UserDetailsService {
 
   private final AppUserToAppUserDtoConverter appUserToAppUserDtoConverter;
 
+  private final UserCache userCache;
+
+  private final ApplicationEventPublisher eventPublisher;
+
   public AppUserService(
       AppUserRepository appUserRepository,
       PasswordEncoder passwordEncoder,
-      AppUserToAppUserDtoConverter appUserToAppUserDtoConverter) {
+      AppUserToAppUserDtoConverter appUserToAppUserDtoConverter,
+      UserCache userCache,
+      ApplicationEventPublisher eventPublisher) {
     this.appUserRepository = appUserRepository;
     this.passwordEncoder = passwordEncoder;
+    this.userCache = userCache;
+    this.eventPublisher = eventPublisher;
 
     this.appUserToAppUserDtoConverter = appUserToAppUserDtoConverter;
   }
@@ -43,7 +57,10 @@ public class AppUserService implements UserDetailsService {
     appUser.setPassword(this.passwordEncoder.encode(request.password()));
     appUser.setRoles("admin");
     appUser.setEnabled(true);
-    return appUserRepository.save(appUser);
+    AppUser savedUser = appUserRepository.save(appUser);
+
+    this.userCache.removeUserFromCache(request.username());
+    return savedUser;
   }
 
   public AppUser findById(Integer id) {
@@ -67,10 +84,24 @@ public class AppUserService implements UserDetailsService {
     return appUserRepository.findAll();
   }
 
+  public KeysetPage<AppUser> getUsersPage(Integer after, Integer limit) {
+    int pageSize = KeysetPage.resolveLimit(limit);
+    List<AppUser> users =
+        appUserRepository.findByIdGreaterThanOrderByIdAsc(
+            after == null ? ZERO : after, PageRequest.ofSize(pageSize + 1));
+    return KeysetPage.of(users, pageSize, AppUser::getId);
+  }
+
   public void deleteUserById(Integer id) {
 
-    this.appUserRepository.findById(id).orElseThrow(() -> new ObjectNotFoundException("user", id));
+    AppUser appUser =
+        this.appUserRepository
+            .findById(id)
+            .orElseThrow(() -> new ObjectNotFoundException("user", id));
     this.appUserRepository.deleteById(id);
+    this.userCache.removeUserFromCache(appUser.getUsername());
+    this.eventPublisher.publishEvent(
+        new AppUserDeletedEvent(appUser.getUsername(), appUser.getPassword()));
   }
 
   @Override
@@ -0,0 +1,6 @@
+ALTER TABLE contractor_billing
+ADD COLUMN recalculation_pending BOOLEAN NOT NULL DEFAULT FALSE;
+
+CREATE INDEX contractor_billing_recalculation_pending_idx
+    ON contractor_billing (id)
+    WHERE recalculation_pending;
@@ -0,0 +1,133 @@
+-- Totals per month (yyyymm), quarter (yyyyq) and year (yyyy), kept current by the
+-- statement level triggers below and rebuilt from scratch by rebuild_billing_rollup().
+CREATE TABLE billing_rollup
+    (
+    granularity VARCHAR(10) NOT NULL,
+    period INTEGER NOT NULL,
+    billings_count BIGINT NOT NULL,
+    worked_hours NUMERIC NOT NULL,
+    contractor_remuneration NUMERIC(19, 2) NOT NULL,
+    client_charge NUMERIC(19, 2) NOT NULL,
+    profit NUMERIC(19, 2) NOT NULL,
+
+    PRIMARY KEY (granularity, period)
+    );
+
+CREATE FUNCTION billing_rollup_period(granularity VARCHAR, billing_period INTEGER)
+RETURNS INTEGER
+LANGUAGE SQL IMMUTABLE
+AS $$
+    SELECT CASE granularity
+        WHEN 'MONTH' THEN billing_period
+        WHEN 'QUARTER' THEN billing_period / 100 * 10 + (billing_period % 100 + 2) / 3
+        WHEN 'YEAR' THEN billing_period / 100
+    END
+$$;
+
+-- Billings added and removed by one statement, folded into the rollup as signed deltas.
+-- Keys are merged in order so concurrent statements lock rollup rows in the same order.
+CREATE FUNCTION merge_billing_rollup(added contractor_billing[], removed contractor_billing[])
+RETURNS VOID
+LANGUAGE SQL
+SET search_path FROM CURRENT
+AS $$
+    WITH changed AS (
+        SELECT 1 AS sign, a.* FROM unnest(added) AS a
+        UNION ALL
+        SELECT -1, d.* FROM unnest(removed) AS d
+    )
+    INSERT INTO billing_rollup AS r
+        (granularity, period, billings_count, worked_hours, contractor_remuneration, client_charge, profit)
+    SELECT g.granularity,
+           billing_rollup_period(g.granularity, c.billing_period),
+           SUM(c.sign),
+           SUM(c.sign * COALESCE(c.worked_hours, 0)::NUMERIC),
+           SUM(c.sign * COALESCE(c.contractor_remuneration, 0)),
+           SUM(c.sign * COALESCE(c.client_charge, 0)),
+           SUM(c.sign * COALESCE(c.profit, 0))
+    FROM changed c
+    CROSS JOIN (VALUES ('MONTH'), ('QUARTER'), ('YEAR')) AS g (granularity)
+    WHERE c.billing_period IS NOT NULL
+    GROUP BY 1, 2
+    HAVING SUM(c.sign) <> 0
+        OR SUM(c.sign * COALESCE(c.worked_hours, 0)::NUMERIC) <> 0
+        OR SUM(c.sign * COALESCE(c.contractor_remuneration, 0)) <> 0
+        OR SUM(c.sign * COALESCE(c.client_charge, 0)) <> 0
+        OR SUM(c.sign * COALESCE(c.profit, 0)) <> 0
+    ORDER BY 1, 2
+    ON CONFLICT (granularity, period) DO UPDATE SET
+        billings_count = r.billings_count + EXCLUDED.billings_count,
+        worked_hours = r.worked_hours + EXCLUDED.worked_hours,
+        contractor_remuneration = r.contractor_remuneration + EXCLUDED.contractor_remuneration,
+        client_charge = r.client_charge + EXCLUDED.client_charge,
+        profit = r.profit + EXCLUDED.profit
+$$;
+
+-- Transition tables only exist for the events a trigger declares them for, so each one is
+-- read only when the firing event has it.
+CREATE FUNCTION apply_billing_rollup_changes()
+RETURNS TRIGGER
+LANGUAGE plpgsql
+SET search_path FROM CURRENT
+AS $$
+DECLARE
+    added contractor_billing[] := '{}';
+    removed contractor_billing[] := '{}';
+BEGIN
+    IF TG_OP IN ('INSERT', 'UPDATE') THEN
+        added := ARRAY(SELECT ROW(n.*)::contractor_billing FROM new_rows n);
+    END IF;
+    IF TG_OP IN ('UPDATE', 'DELETE') THEN
+        removed := ARRAY(SELECT ROW(o.*)::contractor_billing FROM old_rows o);
+    END IF;
+    PERFORM merge_billing_rollup(added, removed);
+    RETURN NULL;
+END
+$$;
+
+CREATE TRIGGER contractor_billing_rollup_insert
+    AFTER INSERT ON contractor_billing
+    REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION apply_billing_rollup_changes();
+
+CREATE TRIGGER contractor_billing_rollup_update
+    AFTER UPDATE ON contractor_billing
+    REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION apply_billing_rollup_changes();
+
+CREATE TRIGGER contractor_billing_rollup_delete
+    AFTER DELETE ON contractor_billing
+    REFERENCING OLD TABLE AS old_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION apply_billing_rollup_changes();
+
+-- SHARE mode lets readers through but waits for and then blocks billing writers, so no
+-- delta is applied twice or lost while the rollup is recomputed.
+CREATE FUNCTION rebuild_billing_rollup()
+RETURNS INTEGER
+LANGUAGE plpgsql
+SET search_path FROM CURRENT
+AS $$
+DECLARE
+    rebuilt INTEGER;
+BEGIN
+    LOCK TABLE contractor_billing IN SHARE MODE;
+    DELETE FROM billing_rollup;
+    INSERT INTO billing_rollup
+        (granularity, period, billings_count, worked_hours, contractor_remuneration, client_charge, profit)
+    SELECT g.granularity,
+           billing_rollup_period(g.granularity, b.billing_period),
+           COUNT(*),
+           SUM(COALESCE(b.worked_hours, 0)::NUMERIC),
+           SUM(COALESCE(b.contractor_remuneration, 0)),
+           SUM(COALESCE(b.client_charge, 0)),
+           SUM(COALESCE(b.profit, 0))
+    FROM contractor_billing b
+    CROSS JOIN (VALUES ('MONTH'), ('QUARTER'), ('YEAR')) AS g (granularity)
+    WHERE b.billing_period IS NOT NULL
+    GROUP BY 1, 2;
+    GET DIAGNOSTICS rebuilt = ROW_COUNT;
+    RETURN rebuilt;
+END
+$$;
+
+SELECT rebuild_billing_rollup();
@@ -0,0 +1,82 @@
+-- Bulk loads insert far more rows per statement than the rollup has keys, so each transition
+-- table is first reduced to per-period totals and only those small arrays are merged.
+CREATE TYPE billing_period_totals AS
+    (
+    billing_period INTEGER,
+    billings_count BIGINT,
+    worked_hours NUMERIC,
+    contractor_remuneration NUMERIC,
+    client_charge NUMERIC,
+    profit NUMERIC
+    );
+
+CREATE FUNCTION merge_billing_period_totals(
+    added billing_period_totals[], removed billing_period_totals[])
+RETURNS VOID
+LANGUAGE SQL
+SET search_path FROM CURRENT
+AS $$
+    WITH changed AS (
+        SELECT 1 AS sign, a.* FROM unnest(added) AS a
+        UNION ALL
+        SELECT -1, d.* FROM unnest(removed) AS d
+    )
+    INSERT INTO billing_rollup AS r
+        (granularity, period, billings_count, worked_hours, contractor_remuneration, client_charge, profit)
+    SELECT g.granularity,
+           billing_rollup_period(g.granularity, c.billing_period),
+           SUM(c.sign * c.billings_count),
+           SUM(c.sign * c.worked_hours),
+           SUM(c.sign * c.contractor_remuneration),
+           SUM(c.sign * c.client_charge),
+           SUM(c.sign * c.profit)
+    FROM changed c
+    CROSS JOIN (VALUES ('MONTH'), ('QUARTER'), ('YEAR')) AS g (granularity)
+    GROUP BY 1, 2
+    HAVING SUM(c.sign * c.billings_count) <> 0
+        OR SUM(c.sign * c.worked_hours) <> 0
+        OR SUM(c.sign * c.contractor_remuneration) <> 0
+        OR SUM(c.sign * c.client_charge) <> 0
+        OR SUM(c.sign * c.profit) <> 0
+    ORDER BY 1, 2
+    ON CONFLICT (granularity, period) DO UPDATE SET
+        billings_count = r.billings_count + EXCLUDED.billings_count,
+        worked_hours = r.worked_hours + EXCLUDED.worked_hours,
+        contractor_remuneration = r.contractor_remuneration + EXCLUDED.contractor_remuneration,
+        client_charge = r.client_charge + EXCLUDED.client_charge,
+        profit = r.profit + EXCLUDED.profit
+$$;
+
+CREATE OR REPLACE FUNCTION apply_billing_rollup_changes()
+RETURNS TRIGGER
+LANGUAGE plpgsql
+SET search_path FROM CURRENT
+AS $$
+DECLARE
+    added billing_period_totals[] := '{}';
+    removed billing_period_totals[] := '{}';
+BEGIN
+    IF TG_OP IN ('INSERT', 'UPDATE') THEN
+        added := ARRAY(
+            SELECT ROW(billing_period, COUNT(*), SUM(COALESCE(worked_hours, 0)::NUMERIC),
+                       SUM(COALESCE(contractor_remuneration, 0)), SUM(COALESCE(client_charge, 0)),
+                       SUM(COALESCE(profit, 0)))::billing_period_totals
+            FROM new_rows
+            WHERE billing_period IS NOT NULL
+            GROUP BY billing_period);
+    END IF;
+    IF TG_OP IN ('UPDATE', 'DELETE') THEN
+        removed := ARRAY(
+            SELECT ROW(billing_period, COUNT(*), SUM(COALESCE(worked_hours, 0)::NUMERIC),
+                       SUM(COALESCE(contractor_remuneration, 0)), SUM(COALESCE(client_charge, 0)),
+                       SUM(COALESCE(profit, 0)))::billing_period_totals
+            FROM old_rows
+            WHERE billing_period IS NOT NULL
+            GROUP BY billing_period);
+    END IF;
+    PERFORM merge_billing_period_totals(added, removed);
+    RETURN NULL;
+END
+$$;
+
+DROP FUNCTION merge_billing_rollup(contractor_billing[], contractor_billing[]);
@@ -0,0 +1,2 @@
+ALTER SEQUENCE contractor_billing_id_sequence
+    INCREMENT BY 50;
@@ -0,0 +1,20 @@
+ALTER TABLE contractor_billing
+ADD COLUMN billing_period INTEGER GENERATED ALWAYS AS (
+    year * 100 + CASE month
+        WHEN 'JANUARY' THEN 1
+        WHEN 'FEBRUARY' THEN 2
+        WHEN 'MARCH' THEN 3
+        WHEN 'APRIL' THEN 4
+        WHEN 'MAY' THEN 5
+        WHEN 'JUNE' THEN 6
+        WHEN 'JULY' THEN 7
+        WHEN 'AUGUST' THEN 8
+        WHEN 'SEPTEMBER' THEN 9
+        WHEN 'OCTOBER' THEN 10
+        WHEN 'NOVEMBER' THEN 11
+        WHEN 'DECEMBER' THEN 12
+    END
+) STORED;
+
+CREATE INDEX contractor_billing_period_id_idx
+    ON contractor_billing (billing_period, id);
@@ -0,0 +1,48 @@
+CREATE TABLE public_holiday
+    (
+    holiday_date DATE PRIMARY KEY,
+    name VARCHAR(255) NOT NULL
+    );
+
+INSERT INTO public_holiday (holiday_date, name)
+VALUES ('2024-01-01', 'New Year''s Day'),
+('2024-01-06', 'Epiphany'),
+('2024-03-31', 'Easter Sunday'),
+('2024-04-01', 'Easter Monday'),
+('2024-05-01', 'Labour Day'),
+('2024-05-03', 'Constitution Day'),
+('2024-05-19', 'Pentecost'),
+('2024-05-30', 'Corpus Christi'),
+('2024-08-15', 'Assumption Day'),
+('2024-11-01', 'All Saints'' Day'),
+('2024-11-11', 'Independence Day'),
+('2024-12-25', 'Christmas Day'),
+('2024-12-26', 'Second Day of Christmas'),
+('2025-01-01', 'New Year''s Day'),
+('2025-01-06', 'Epiphany'),
+('2025-04-20', 'Easter Sunday'),
+('2025-04-21', 'Easter Monday'),
+('2025-05-01', 'Labour Day'),
+('2025-05-03', 'Constitution Day'),
+('2025-06-08', 'Pentecost'),
+('2025-06-19', 'Corpus Christi'),
+('2025-08-15', 'Assumption Day'),
+('2025-11-01', 'All Saints'' Day'),
+('2025-11-11', 'Independence Day'),
+('2025-12-24', 'Christmas Eve'),
+('2025-12-25', 'Christmas Day'),
+('2025-12-26', 'Second Day of Christmas'),
+('2026-01-01', 'New Year''s Day'),
+('2026-01-06', 'Epiphany'),
+('2026-04-05', 'Easter Sunday'),
+('2026-04-06', 'Easter Monday'),
+('2026-05-01', 'Labour Day'),
+('2026-05-03', 'Constitution Day'),
+('2026-05-24', 'Pentecost'),
+('2026-06-04', 'Corpus Christi'),
+('2026-08-15', 'Assumption Day'),
+('2026-11-01', 'All Saints'' Day'),
+('2026-11-11', 'Independence Day'),
+('2026-12-24', 'Christmas Eve'),
+('2026-12-25', 'Christmas Day'),
+('2026-12-26', 'Second Day of Christmas');
@@ -0,0 +1,2 @@
+CREATE UNIQUE INDEX contractor_billing_contractor_year_month_uidx
+    ON contractor_billing (contractor_id, year, month);
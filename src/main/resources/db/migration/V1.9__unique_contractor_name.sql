@@ -0,0 +1,2 @@
+CREATE UNIQUE INDEX contractor_first_name_last_name_uidx
+    ON contractor (first_name, last_name);
@@ -0,0 +1,102 @@
+package pl.jarekzegzula.calc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+import pl.jarekzegzula.contract.ContractType;
+import pl.jarekzegzula.contractor.Contractor;
+import pl.jarekzegzula.system.exception.IllegalContractTypeArgument;
+
+class BatchPaymentCalculatorTest {
+
+  @Test
+  void testMatchesSingleCalculation() {
+    // Given
+    List<Double> workedHours = new ArrayList<>();
+    List<Contractor> contractors = new ArrayList<>();
+    randomBillings(1_000, workedHours, contractors);
+
+    // When
+    PaymentBatchResult result =
+        BatchPaymentCalculator.calculate(PaymentBatch.of(workedHours, contractors));
+
+    // Then
+    assertMatchesSingleCalculation(result, workedHours, contractors);
+  }
+
+  @Test
+  void testParallelMatchesSingleCalculation() {
+    // Given
+    List<Double> workedHours = new ArrayList<>();
+    List<Contractor> contractors = new ArrayList<>();
+    randomBillings(4 * BatchPaymentCalculator.PARALLEL_THRESHOLD, workedHours, contractors);
+
+    // When
+    PaymentBatchResult result =
+        BatchPaymentCalculator.calculate(PaymentBatch.of(workedHours, contractors), true);
+
+    // Then
+    assertMatchesSingleCalculation(result, workedHours, contractors);
+  }
+
+  @Test
+  void testInvalidContractTypeCode() {
+    // Given
+    PaymentBatch batch =
+        new PaymentBatch(
+            new byte[] {7},
+            new double[] {160.0},
+            new double[] {30.0},
+            new double[] {4800.0},
+            new int[] {160},
+            new double[] {1.5},
+            new boolean[] {true},
+            new double[] {40.0});
+
+    // When
+    Throwable thrown = catchThrowable(() -> BatchPaymentCalculator.calculate(batch));
+
+    // Then
+    assertThat(thrown)
+        .isInstanceOf(IllegalContractTypeArgument.class)
+        .hasMessage("Invalid ContractType value: 7");
+  }
+
+  private static void assertMatchesSingleCalculation(
+      PaymentBatchResult result, List<Double> workedHours, List<Contractor> contractors) {
+    for (int i = 0; i < workedHours.size(); i++) {
+      Contractor contractor = contractors.get(i);
+      long payment = FixedPointMoney.contractorPaymentCents(workedHours.get(i), contractor);
+      long charge = FixedPointMoney.clientChargeCents(workedHours.get(i), contractor);
+      assertThat(result.remunerationCents()[i]).as("payment of row %d", i).isEqualTo(payment);
+      assertThat(result.clientChargeCents()[i]).as("charge of row %d", i).isEqualTo(charge);
+      assertThat(result.profitCents()[i]).isEqualTo(charge - payment);
+    }
+  }
+
+  private static void randomBillings(
+      int size, List<Double> workedHours, List<Contractor> contractors) {
+    SplittableRandom random = new SplittableRandom(7);
+    ContractType[] contractTypes = ContractType.values();
+    for (int i = 0; i < size; i++) {
+      double hourlyRate = random.nextInt(2_000, 20_000) / 100.0;
+      int hourLimit = random.nextInt(120, 200);
+
+      Contractor contractor = new Contractor();
+      contractor.setContractType(contractTypes[random.nextInt(contractTypes.length)]);
+      contractor.setHourlyRate(hourlyRate);
+      contractor.setMonthlyHourLimit(hourLimit);
+      contractor.setMonthlyEarnings(hourlyRate * hourLimit);
+      contractor.setIsOvertimePaid(random.nextBoolean());
+      contractor.setOvertimeMultiplier(random.nextInt(100, 250) / 100.0);
+      contractor.setContractorHourPrice(hourlyRate * 1.3);
+
+      contractors.add(contractor);
+      workedHours.add(random.nextBoolean() ? hourLimit : random.nextInt(0, 250_000) / 1000.0);
+    }
+  }
+}
@@ -0,0 +1,196 @@
+package pl.jarekzegzula.calc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import pl.jarekzegzula.contract.ContractType;
+import pl.jarekzegzula.contractor.Contractor;
+import pl.jarekzegzula.contractorBilling.dto.ContractorBillingDTO;
+import pl.jarekzegzula.requests.addNewRequest.NewContractorBillingRequest;
+import pl.jarekzegzula.requests.addNewRequest.NewContractorRequest;
+
+class FixedPointMoneyTest {
+
+  @ParameterizedTest
+  @CsvSource({
+    "CONTRACT_OF_MANDATE, 185.5, true, 5815.43",
+    "CONTRACT_OF_MANDATE, 7.333, true, 229.89",
+    "CONTRACT_OF_EMPLOYMENT, 120.0, true, 3762.00",
+    "CONTRACT_OF_EMPLOYMENT, 160.0, true, 5016.00",
+    "CONTRACT_OF_EMPLOYMENT, 185.5, true, 6215.14",
+    "CONTRACT_OF_EMPLOYMENT, 185.5, false, 6215.14",
+    "CONTRACT_B2B, 120.0, true, 3762.00",
+    "CONTRACT_B2B, 185.5, true, 6215.14",
+    "CONTRACT_B2B, 185.5, false, 5815.43",
+    "CONTRACT_B2B, 0.0, true, 0.00"
+  })
+  void testContractorPaymentGoldenValues(
+      ContractType contractType, double workedHours, boolean overtimePaid, String expected) {
+    // Given
+    Contractor contractor = contractor(contractType, 31.35, overtimePaid);
+
+    // When
+    BigDecimal payment = Calculator.calculateContractorPayment(workedHours, contractor);
+
+    // Then
+    assertThat(payment).isEqualTo(new BigDecimal(expected));
+  }
+
+  @Test
+  void testClientChargeIsRoundedToCents() {
+    // Given
+    Contractor contractor = contractor(ContractType.CONTRACT_OF_MANDATE, 31.35, true);
+    contractor.setContractorHourPrice(45.67);
+
+    // When
+    BigDecimal charge = Calculator.calculateClientsChargeFromContractorHours(7.333, contractor);
+
+    // Then
+    assertThat(charge).isEqualTo(new BigDecimal("334.90"));
+  }
+
+  @Test
+  void testMatchesDecimalArithmeticCentForCent() {
+    // Given
+    SplittableRandom random = new SplittableRandom(42);
+
+    for (int i = 0; i < 10_000; i++) {
+      double hourlyRate = random.nextInt(1, 50_000) / 100.0;
+      double multiplier = random.nextInt(1_000, 3_000) / 1000.0;
+      double workedHours = random.nextInt(0, 300_000) / 1000.0;
+      Contractor contractor = contractor(ContractType.CONTRACT_OF_EMPLOYMENT, hourlyRate, true);
+      contractor.setOvertimeMultiplier(multiplier);
+      contractor.setContractorHourPrice(hourlyRate);
+
+      // When
+      long payment = FixedPointMoney.contractorPaymentCents(workedHours, contractor);
+      long charge = FixedPointMoney.clientChargeCents(workedHours, contractor);
+
+      // Then
+      BigDecimal hours = BigDecimal.valueOf(workedHours);
+      BigDecimal rate = BigDecimal.valueOf(hourlyRate);
+      BigDecimal limit = BigDecimal.valueOf(contractor.getMonthlyHourLimit());
+      BigDecimal monthlyEarnings = rate.multiply(limit);
+      BigDecimal expectedPayment =
+          hours.compareTo(limit) == 0
+              ? monthlyEarnings
+              : hours.compareTo(limit) < 0
+                  ? hours.multiply(rate)
+                  : monthlyEarnings.add(
+                      hours.subtract(limit).multiply(rate).multiply(BigDecimal.valueOf(multiplier)));
+
+      assertThat(FixedPointMoney.toBigDecimal(payment))
+          .as("payment for %s h at %s x %s", workedHours, hourlyRate, multiplier)
+          .isEqualTo(expectedPayment.setScale(2, RoundingMode.HALF_UP));
+      assertThat(FixedPointMoney.toBigDecimal(charge))
+          .isEqualTo(hours.multiply(rate).setScale(2, RoundingMode.HALF_UP));
+    }
+  }
+
+  @ParameterizedTest
+  @CsvSource({
+    "0.0, true",
+    "185.5, true",
+    "7.333, true",
+    "9999.999, true",
+    "1000.0005, false",
+    "7.3335, false",
+    "10000.0, false",
+    "-1.0, false",
+    "NaN, false",
+    "Infinity, false"
+  })
+  void testIsValidHoursRejectsDigitsBeyondTheScale(double workedHours, boolean expected) {
+    // When
+    boolean valid = FixedPointMoney.isValidHours(workedHours);
+
+    // Then
+    assertThat(valid).isEqualTo(expected);
+  }
+
+  @Test
+  void testDigitsLimitsRejectTermsBeyondTheScale() {
+    // Given
+    Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    // When
+    Set<ConstraintViolation<NewContractorRequest>> violations =
+        validator.validate(
+            new NewContractorRequest("Jan", "Kowalski", 1, 10.005, 160, true, 1.5005, 42.001));
+
+    // Then
+    assertThat(violations)
+        .extracting(violation -> violation.getPropertyPath().toString())
+        .containsExactlyInAnyOrder("hourlyRate", "overtimeMultiplier", "contractorHourPrice");
+    assertThat(validator.validate(new NewContractorBillingRequest(1, 1000.0005, null, null)))
+        .extracting(violation -> violation.getPropertyPath().toString())
+        .contains("workedHours");
+  }
+
+  @Test
+  void testLargestTermsWithinTheLimitsAreExact() {
+    // Given
+    Contractor contractor = contractor(ContractType.CONTRACT_B2B, 99_999.99, true);
+    contractor.setOvertimeMultiplier(9.999);
+    contractor.setContractorHourPrice(99_999.99);
+
+    // When
+    long payment = FixedPointMoney.contractorPaymentCents(9_999.999, contractor);
+    long charge = FixedPointMoney.clientChargeCents(9_999.999, contractor);
+
+    // Then
+    BigDecimal rate = new BigDecimal("99999.99");
+    BigDecimal hours = new BigDecimal("9999.999");
+    BigDecimal limit = BigDecimal.valueOf(160);
+    BigDecimal expectedPayment =
+        rate.multiply(limit)
+            .add(hours.subtract(limit).multiply(rate).multiply(new BigDecimal("9.999")));
+    assertThat(FixedPointMoney.toBigDecimal(payment))
+        .isEqualTo(expectedPayment.setScale(2, RoundingMode.HALF_UP));
+    assertThat(FixedPointMoney.toBigDecimal(charge))
+        .isEqualTo(hours.multiply(rate).setScale(2, RoundingMode.HALF_UP));
+  }
+
+  @Test
+  void testSumContractorsBillingFinancial() {
+    // Given
+    List<ContractorBillingDTO> billings =
+        List.of(billing(new BigDecimal("0.10")), billing(new BigDecimal("0.20")));
+
+    // When
+    BigDecimal sum =
+        Calculator.sumContractorsBillingFinancial(
+            billings, ContractorBillingDTO::getContractorRemuneration);
+
+    // Then
+    assertThat(sum).isEqualTo(new BigDecimal("0.30"));
+  }
+
+  private static ContractorBillingDTO billing(BigDecimal remuneration) {
+    return new ContractorBillingDTO(
+        1, 1, 1.0, null, null, remuneration, remuneration, BigDecimal.ZERO);
+  }
+
+  private static Contractor contractor(
+      ContractType contractType, double hourlyRate, boolean overtimePaid) {
+    Contractor contractor = new Contractor();
+    contractor.setContractType(contractType);
+    contractor.setHourlyRate(hourlyRate);
+    contractor.setMonthlyHourLimit(160);
+    contractor.setMonthlyEarnings(Calculator.calculateMonthlyEarningsForContractor(hourlyRate, 160));
+    contractor.setIsOvertimePaid(overtimePaid);
+    contractor.setOvertimeMultiplier(1.5);
+    contractor.setContractorHourPrice(42.0);
+    return contractor;
+  }
+}
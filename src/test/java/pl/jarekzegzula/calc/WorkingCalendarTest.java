@@ -0,0 +1,45 @@
+package pl.jarekzegzula.calc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.Year;
+import java.time.YearMonth;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class WorkingCalendarTest {
+
+  WorkingCalendar workingCalendar =
+      new WorkingCalendar(
+          2024,
+          2025,
+          List.of(
+              LocalDate.of(2024, 5, 1),
+              LocalDate.of(2024, 5, 3),
+              LocalDate.of(2024, 5, 19),
+              LocalDate.of(2024, 5, 30)));
+
+  @Test
+  void testWorkingHoursMatchWeekdayLoopWithoutHolidays() {
+    for (int year = 2019; year <= 2026; year++) {
+      for (Month month : Month.values()) {
+        assertThat(workingCalendar.workingHours(YearMonth.of(year, month)))
+            .as("%s %d", month, year)
+            .isEqualTo(
+                year == 2024 && month == Month.MAY
+                    ? 160.0
+                    : Calculator.countWorkingHoursWithoutWeekendsInMonth(Year.of(year), month));
+      }
+    }
+  }
+
+  @Test
+  void testHolidaysAreNotWorkingDays() {
+    assertThat(workingCalendar.isWorkingDay(LocalDate.of(2024, 5, 2))).isTrue();
+    assertThat(workingCalendar.isWorkingDay(LocalDate.of(2024, 5, 3))).isFalse();
+    assertThat(workingCalendar.isWorkingDay(LocalDate.of(2024, 5, 4))).isFalse();
+    assertThat(workingCalendar.countWorkingDays(YearMonth.of(2024, Month.MAY))).isEqualTo(20);
+  }
+}
@@ -250,6 +250,32 @@ public class ContractorControllerIntegrationTest {
             jsonPath("$.message").value("Hourly rate remains the same or the value is incorrect"));
   }
 
+  @Test
+  @DisplayName("Check updateContractorHourlyRate with more than two decimals (PUT)")
+  @DirtiesContext(methodMode = DirtiesContext.MethodMode.BEFORE_METHOD)
+  void testUpdateContractorHourlyRateErrorWithTooManyDecimals() throws Exception {
+    UpdateContractorHourlyRateRequest updateRequest = new UpdateContractorHourlyRateRequest(10.005);
+
+    String json = objectMapper.writeValueAsString(updateRequest);
+
+    Integer contractorId = 2;
+
+    this.mockMvc
+        .perform(
+            put(this.baseUrl + "/contractor/hourly-rate/{contractorId}", contractorId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json)
+                .accept(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.AUTHORIZATION, this.token))
+        .andExpect(jsonPath("$.flag").value(false))
+        .andExpect(jsonPath("$.code").value(StatusCode.INVALID_ARGUMENT))
+        .andExpect(
+            jsonPath("$.message").value("Provided arguments are invalid, see data for details."))
+        .andExpect(
+            jsonPath("$.data.hourlyRate")
+                .value("numeric value out of bounds (<5 digits>.<2 digits> expected)"));
+  }
+
   @Test
   @DisplayName("Check updateContractorHourlyRate with the same salary value (PUT)")
   @DirtiesContext(methodMode = DirtiesContext.MethodMode.BEFORE_METHOD)
@@ -19,6 +19,7 @@ import pl.jarekzegzula.requests.updateRequest.UpdateContractorContractTypeReques
 import pl.jarekzegzula.requests.updateRequest.UpdateContractorOvertimeMultiplier;
 import pl.jarekzegzula.requests.updateRequest.UpdateContractorHourPriceRequest;
 import pl.jarekzegzula.requests.updateRequest.UpdateContractorHourlyRateRequest;
+import pl.jarekzegzula.system.KeysetPage;
 import pl.jarekzegzula.system.StatusCode;
 import pl.jarekzegzula.system.exception.ObjectNotFoundException;
 
@@ -124,6 +125,24 @@ class ContractorControllerTest {
         .andExpect(jsonPath("$.data[0].firstName").value("Marian"));
   }
 
+  @Test
+  void testGetContractorsPage() throws Exception {
+    // given
+    given(contractorService.getContractorsPage(null, 2))
+        .willReturn(new KeysetPage<>(this.contractors.subList(0, 2), "2"));
+
+    // When Then
+    mockMvc
+        .perform(
+            get(this.baseUrl + "/contractor")
+                .param("limit", "2")
+                .contentType(MediaType.APPLICATION_JSON))
+        .andExpect(jsonPath("$.flag").value(true))
+        .andExpect(jsonPath("$.code").value(200))
+        .andExpect(jsonPath("$.data.items", Matchers.hasSize(2)))
+        .andExpect(jsonPath("$.data.nextCursor").value("2"));
+  }
+
   @Test
   void testGetContractorByIdSuccess() throws Exception {
     // Given
@@ -8,9 +8,11 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import pl.jarekzegzula.contract.ContractType;
 import pl.jarekzegzula.requests.addNewRequest.NewContractorRequest;
 import pl.jarekzegzula.requests.updateRequest.*;
+import pl.jarekzegzula.system.KeysetPage;
 import pl.jarekzegzula.system.exception.ContractorAlreadyExistInGivenTimeException;
 import pl.jarekzegzula.system.exception.IllegalContractTypeArgument;
 import pl.jarekzegzula.system.exception.ObjectNotFoundException;
@@ -31,6 +33,10 @@ class ContractorServiceTest {
 
   @Mock ContractorRepository contractorRepository;
 
+  @Mock ContractorJdbcRepository contractorJdbcRepository;
+
+  @Mock ApplicationEventPublisher eventPublisher;
+
   @InjectMocks ContractorService contractorService;
 
   List<Contractor> contractors;
@@ -142,6 +148,35 @@ class ContractorServiceTest {
     verify(this.contractorRepository, times(1)).findAll();
   }
 
+  @Test
+  void testGetContractorsPage() {
+    // Given
+    given(contractorRepository.findByIdGreaterThanOrderByIdAsc(eq(0), any()))
+        .willReturn(this.contractors);
+
+    // When
+    KeysetPage<Contractor> page = contractorService.getContractorsPage(null, 1);
+
+    // Then
+    assertThat(page.items()).hasSize(1);
+    assertThat(page.items().get(0).getId()).isEqualTo(this.contractors.get(0).getId());
+    assertThat(page.nextCursor()).isEqualTo(String.valueOf(this.contractors.get(0).getId()));
+  }
+
+  @Test
+  void testGetContractorsLastPage() {
+    // Given
+    given(contractorRepository.findByIdGreaterThanOrderByIdAsc(eq(1), any()))
+        .willReturn(List.of());
+
+    // When
+    KeysetPage<Contractor> page = contractorService.getContractorsPage(1, 10);
+
+    // Then
+    assertThat(page.items()).isEmpty();
+    assertThat(page.nextCursor()).isNull();
+  }
+
   @Test
   void testAddNewContractorSuccess() {
 
@@ -156,7 +191,8 @@ class ContractorServiceTest {
     ContractType contractType = ContractType.fromValue(newContractorRequest.contractType());
     testContractor.setContractType(contractType);
 
-    given(this.contractorRepository.save(any(Contractor.class))).willReturn(testContractor);
+    given(this.contractorJdbcRepository.insertIfAbsent(any(Contractor.class)))
+        .willReturn(Optional.of(17));
 
     // When
     Contractor savedContractor = this.contractorService.addNewContractor(newContractorRequest);
@@ -167,10 +203,12 @@ class ContractorServiceTest {
     assertThat(savedContractor.getLastName()).isEqualTo(testContractor.getLastName());
     assertThat(savedContractor.getOvertimeMultiplier())
         .isEqualTo(testContractor.getOvertimeMultiplier());
+    assertThat(savedContractor.getContractType()).isEqualTo(testContractor.getContractType());
+    assertThat(savedContractor.getId()).isEqualTo(17);
 
     System.out.println(savedContractor);
 
-    verify(this.contractorRepository, times(1)).save(any(Contractor.class));
+    verify(this.contractorJdbcRepository, times(1)).insertIfAbsent(any(Contractor.class));
   }
 
   @Test
@@ -180,10 +218,8 @@ class ContractorServiceTest {
         new NewContractorRequest("Artur", "Testowy", 3, 50.0, 168, true, 1.5, 80.0);
 
     // When
-    given(
-            contractorRepository.existsByFirstNameAndLastName(
-                newContractorRequest.firstName(), newContractorRequest.lastName()))
-        .willReturn(true);
+    given(contractorJdbcRepository.insertIfAbsent(any(Contractor.class)))
+        .willReturn(Optional.empty());
 
     // Then
     assertThrows(
@@ -241,6 +277,7 @@ class ContractorServiceTest {
 
     // Then
     assertEquals(updateRequest.hourlyRate(), existingContractor.getHourlyRate(), 0.01);
+    verify(eventPublisher).publishEvent(new ContractorTermsChangedEvent(id));
 
     System.out.println(existingContractor);
   }
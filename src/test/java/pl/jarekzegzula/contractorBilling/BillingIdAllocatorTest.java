@@ -0,0 +1,41 @@
+package pl.jarekzegzula.contractorBilling;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class BillingIdAllocatorTest {
+
+  @Mock JdbcTemplate jdbcTemplate;
+
+  @InjectMocks BillingIdAllocator billingIdAllocator;
+
+  @Test
+  void testIdsAreTakenFromPooledLoBlocks() {
+    // Given
+    given(jdbcTemplate.queryForObject(BillingIdAllocator.NEXT_BLOCK, Long.class))
+        .willReturn(53L, 103L);
+
+    // When
+    int[] ids =
+        IntStream.range(0, ContractorBilling.ID_ALLOCATION_SIZE + 1)
+            .map(i -> billingIdAllocator.nextId())
+            .toArray();
+
+    // Then
+    assertThat(ids[0]).isEqualTo(53);
+    assertThat(ids[ContractorBilling.ID_ALLOCATION_SIZE - 1]).isEqualTo(102);
+    assertThat(ids[ContractorBilling.ID_ALLOCATION_SIZE]).isEqualTo(103);
+    verify(jdbcTemplate, times(2)).queryForObject(BillingIdAllocator.NEXT_BLOCK, Long.class);
+  }
+}
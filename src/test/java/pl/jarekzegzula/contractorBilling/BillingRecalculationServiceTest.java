@@ -0,0 +1,76 @@
+package pl.jarekzegzula.contractorBilling;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+import java.time.YearMonth;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import pl.jarekzegzula.contractor.ContractorRepository;
+import pl.jarekzegzula.contractor.ContractorTermsChangedEvent;
+import pl.jarekzegzula.contractorBilling.dto.RecalculationResult;
+
+@ExtendWith(MockitoExtension.class)
+class BillingRecalculationServiceTest {
+
+  @Mock JdbcTemplate jdbcTemplate;
+
+  @Mock PlatformTransactionManager transactionManager;
+
+  @Mock ContractorRepository contractorRepository;
+
+  @Mock ApplicationEventPublisher eventPublisher;
+
+  @Test
+  void testMarkContractorBillingsInOpenMonths() {
+    // Given
+    BillingRecalculationService service = service(RecalculationScope.OPEN_MONTHS);
+    YearMonth previousMonth = YearMonth.now().minusMonths(1);
+    int firstOpenPeriod = previousMonth.getYear() * 100 + previousMonth.getMonthValue();
+    given(jdbcTemplate.update(anyString(), eq(7), eq(firstOpenPeriod))).willReturn(2);
+
+    // When
+    int marked = service.markContractorBillings(7);
+
+    // Then
+    assertThat(marked).isEqualTo(2);
+  }
+
+  @Test
+  void testTermsChangeMarksAllBillings() {
+    // Given
+    BillingRecalculationService service = service(RecalculationScope.ALL);
+
+    // When
+    service.onContractorTermsChanged(new ContractorTermsChangedEvent(7));
+
+    // Then
+    verify(jdbcTemplate).update(anyString(), eq(7), eq(0));
+  }
+
+  @Test
+  void testRecalculateNextBatchReportsRemainingBillings() {
+    // Given
+    BillingRecalculationService service = service(RecalculationScope.ALL);
+    given(jdbcTemplate.queryForObject(anyString(), eq(Long.class))).willReturn(5L);
+
+    // When
+    RecalculationResult result = service.recalculateNextBatch();
+
+    // Then
+    assertThat(result).isEqualTo(new RecalculationResult(0, 5));
+  }
+
+  private BillingRecalculationService service(RecalculationScope scope) {
+    return new BillingRecalculationService(
+        jdbcTemplate, transactionManager, contractorRepository, eventPublisher, scope, 2, 1000);
+  }
+}
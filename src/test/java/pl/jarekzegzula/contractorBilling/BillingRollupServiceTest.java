@@ -0,0 +1,65 @@
+package pl.jarekzegzula.contractorBilling;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.BDDMockito.given;
+
+import java.math.BigDecimal;
+import java.time.Month;
+import java.time.Year;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import pl.jarekzegzula.contractorBilling.dto.BillingRollupDTO;
+import pl.jarekzegzula.system.exception.ObjectNotFoundException;
+
+@ExtendWith(MockitoExtension.class)
+class BillingRollupServiceTest {
+
+  @Mock BillingRollupRepository billingRollupRepository;
+
+  @InjectMocks BillingRollupService billingRollupService;
+
+  @Test
+  void testGetQuarterlyRollup() {
+    // Given
+    RollupPeriod period = new RollupPeriod(RollupGranularity.QUARTER, 20241, "2024-Q1");
+    BillingRollupDTO rollup =
+        new BillingRollupDTO(
+            RollupGranularity.QUARTER,
+            "2024-Q1",
+            3L,
+            504.0,
+            new BigDecimal("21055.44"),
+            new BigDecimal("28560.00"),
+            new BigDecimal("7504.56"));
+    given(billingRollupRepository.findByPeriod(period)).willReturn(Optional.of(rollup));
+
+    // When
+    BillingRollupDTO result = billingRollupService.getQuarterlyRollup(Year.of(2024), Quarter.Q1);
+
+    // Then
+    assertThat(result).isEqualTo(rollup);
+  }
+
+  @Test
+  void testGetMonthlyRollupNotFound() {
+    // Given
+    given(
+            billingRollupRepository.findByPeriod(
+                new RollupPeriod(RollupGranularity.MONTH, 202403, "2024-03")))
+        .willReturn(Optional.empty());
+
+    // When
+    Throwable thrown =
+        catchThrowable(() -> billingRollupService.getMonthlyRollup(Year.of(2024), Month.MARCH));
+
+    // Then
+    assertThat(thrown)
+        .isInstanceOf(ObjectNotFoundException.class)
+        .hasMessage("Could not find billing rollup for 2024-03");
+  }
+}
@@ -13,19 +13,29 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.annotation.Rollback;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.transaction.annotation.Transactional;
+import pl.jarekzegzula.calc.Calculator;
+import pl.jarekzegzula.contractor.Contractor;
+import pl.jarekzegzula.contractor.ContractorRepository;
 import pl.jarekzegzula.requests.addNewRequest.NewContractorBillingRequest;
 import pl.jarekzegzula.requests.updateRequest.UpdateContractorBillingHoursRequest;
 import pl.jarekzegzula.system.StatusCode;
 
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.Month;
 import java.time.Year;
+import java.util.List;
+import java.util.Map;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -43,6 +53,10 @@ public class ContractorBillingControllerIntegrationTest {
 
   @Autowired ObjectMapper objectMapper;
 
+  @Autowired JdbcTemplate jdbcTemplate;
+
+  @Autowired ContractorRepository contractorRepository;
+
   String token;
 
   @Value("${api.endpoint.base-url}")
@@ -174,6 +188,28 @@ public class ContractorBillingControllerIntegrationTest {
         .andExpect(jsonPath("$.data", Matchers.hasSize(3)));
   }
 
+  @Test
+  @DisplayName("Check addContractorBilling with a year beyond four digits (POST)")
+  @DirtiesContext(methodMode = DirtiesContext.MethodMode.BEFORE_METHOD)
+  void testAddContractorBillingErrorWithYearOutOfRange() throws Exception {
+    NewContractorBillingRequest newContractorBillingRequest =
+        new NewContractorBillingRequest(1, 160.0, Year.of(21_474_837), Month.JANUARY);
+
+    String jsonRequest = objectMapper.writeValueAsString(newContractorBillingRequest);
+
+    this.mockMvc
+        .perform(
+            post(this.baseUrl + "/contractor/billing")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(jsonRequest)
+                .accept(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.AUTHORIZATION, this.token))
+        .andExpect(jsonPath("$.flag").value(false))
+        .andExpect(jsonPath("$.code").value(StatusCode.INVALID_ARGUMENT))
+        .andExpect(
+            jsonPath("$.data.yearInRange").value("Billing year must be between 1 and 9999"));
+  }
+
   @Test
   @DisplayName("Check updateContractorBillingWorkingHours with valid input (PUT)")
   @DirtiesContext(methodMode = DirtiesContext.MethodMode.BEFORE_METHOD)
@@ -351,4 +387,52 @@ public class ContractorBillingControllerIntegrationTest {
                 .value("Could not find contractor billings with given 2024 and DECEMBER"))
         .andExpect(jsonPath("$.data").isEmpty());
   }
+
+  @Test
+  @DisplayName("Check importContractorBillings prices rows like the calculator (POST)")
+  @DirtiesContext(methodMode = DirtiesContext.MethodMode.BEFORE_METHOD)
+  void testImportContractorBillingsPricesRowsLikeTheCalculator() throws Exception {
+    MockMultipartFile file =
+        new MockMultipartFile(
+            "file",
+            "billings.csv",
+            "text/csv",
+            ("contractorId,workedHours,year,month\n"
+                    + "1,185.5,2030,JANUARY\n1,168,2030,2\n1,120.25,2030,3\n"
+                    + "2,185.5,2030,JANUARY\n"
+                    + "3,185.5,2030,JANUARY\n3,7.333,2030,2\n"
+                    + "404,10,2030,JANUARY\n")
+                .getBytes(StandardCharsets.UTF_8));
+
+    this.mockMvc
+        .perform(
+            multipart(this.baseUrl + "/contractor/billing/import")
+                .file(file)
+                .header(HttpHeaders.AUTHORIZATION, this.token))
+        .andExpect(jsonPath("$.flag").value(true))
+        .andExpect(jsonPath("$.data.rowsRead").value(7))
+        .andExpect(jsonPath("$.data.imported").value(6))
+        .andExpect(jsonPath("$.data.rejections[0].line").value(8))
+        .andExpect(
+            jsonPath("$.data.rejections[0].message")
+                .value("Could not find contractor with Id 404"));
+
+    List<Map<String, Object>> imported =
+        jdbcTemplate.queryForList(
+            "SELECT contractor_id, worked_hours, contractor_remuneration, client_charge, profit"
+                + " FROM contractor_management.contractor_billing WHERE year = 2030");
+    assertThat(imported).hasSize(6);
+    for (Map<String, Object> billing : imported) {
+      Contractor contractor =
+          contractorRepository.findById((Integer) billing.get("contractor_id")).orElseThrow();
+      double workedHours = (Double) billing.get("worked_hours");
+      BigDecimal remuneration = Calculator.calculateContractorPayment(workedHours, contractor);
+      BigDecimal clientCharge =
+          Calculator.calculateClientsChargeFromContractorHours(workedHours, contractor);
+
+      assertThat(billing.get("contractor_remuneration")).isEqualTo(remuneration);
+      assertThat(billing.get("client_charge")).isEqualTo(clientCharge);
+      assertThat(billing.get("profit")).isEqualTo(clientCharge.subtract(remuneration));
+    }
+  }
 }
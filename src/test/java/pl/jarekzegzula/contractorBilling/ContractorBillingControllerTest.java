@@ -11,25 +11,43 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import pl.jarekzegzula.contract.ContractType;
 import pl.jarekzegzula.contractor.Contractor;
+import pl.jarekzegzula.contractorBilling.dto.BillingRollupDTO;
+import pl.jarekzegzula.contractorBilling.dto.ContractorBillingBatchResult;
 import pl.jarekzegzula.contractorBilling.dto.ContractorBillingDTO;
+import pl.jarekzegzula.contractorBilling.dto.ContractorBillingMonthlySummary;
+import pl.jarekzegzula.contractorBilling.dto.CsvImportRejection;
+import pl.jarekzegzula.contractorBilling.dto.CsvImportResult;
+import pl.jarekzegzula.contractorBilling.dto.RateSimulationResult;
+import pl.jarekzegzula.contractorBilling.dto.RecalculationResult;
+import pl.jarekzegzula.contractorBilling.dto.SimulationDelta;
 import pl.jarekzegzula.requests.addNewRequest.NewContractorBillingRequest;
 import pl.jarekzegzula.requests.updateRequest.UpdateContractorBillingHoursRequest;
 import pl.jarekzegzula.system.StatusCode;
 import pl.jarekzegzula.system.exception.ObjectNotFoundException;
 
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.Month;
 import java.time.Year;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 
 @SpringBootTest
 @AutoConfigureMockMvc(addFilters = false)
@@ -41,6 +59,18 @@ class ContractorBillingControllerTest {
 
   @MockBean ContractorBillingService contractorBillingService;
 
+  @MockBean ContractorBillingExportService contractorBillingExportService;
+
+  @MockBean BillingRecalculationService billingRecalculationService;
+
+  @MockBean BillingRollupService billingRollupService;
+
+  @MockBean RateSimulationService rateSimulationService;
+
+  @MockBean ContractorBillingCsvImportService contractorBillingCsvImportService;
+
+  @MockBean MonthlyReportService monthlyReportService;
+
   @Value("${api.endpoint.base-url}")
   String baseUrl;
 
@@ -101,7 +131,8 @@ class ContractorBillingControllerTest {
   @Test
   void getContractorBillings() throws Exception {
 
-    given(this.contractorBillingService.findAll()).willReturn(this.contractorBillings);
+    given(this.contractorBillingService.findAllDTOs())
+        .willReturn(this.contractorBillings.stream().map(ContractorBillingDTO::new).toList());
 
     this.mockMvc
         .perform(get(this.baseUrl + "/contractor/billing").accept(MediaType.APPLICATION_JSON))
@@ -114,6 +145,30 @@ class ContractorBillingControllerTest {
         .andExpect(jsonPath("$.data.[0].month").value("MARCH"));
   }
 
+  @Test
+  void exportContractorBillings() throws Exception {
+
+    doAnswer(
+            invocation -> {
+              OutputStream outputStream = invocation.getArgument(0);
+              outputStream.write("{\"flag\":true,\"data\":[]}".getBytes());
+              return null;
+            })
+        .when(this.contractorBillingExportService)
+        .writeAll(any());
+
+    MvcResult mvcResult =
+        this.mockMvc
+            .perform(get(this.baseUrl + "/contractor/billing/export"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+    this.mockMvc
+        .perform(asyncDispatch(mvcResult))
+        .andExpect(jsonPath("$.flag").value(true))
+        .andExpect(jsonPath("$.data").isEmpty());
+  }
+
   @Test
   void getContractorBillingById() throws Exception {
     // given
@@ -195,6 +250,34 @@ class ContractorBillingControllerTest {
         .andExpect(jsonPath("$.data").exists());
   }
 
+  @Test
+  void addContractorBillings() throws Exception {
+    List<NewContractorBillingRequest> requests =
+        List.of(
+            new NewContractorBillingRequest(1, 150., Year.of(2023), Month.MARCH),
+            new NewContractorBillingRequest(1, 150., Year.of(2023), Month.MARCH));
+
+    given(this.contractorBillingService.addNewContractorBillings(requests))
+        .willReturn(
+            List.of(
+                ContractorBillingBatchResult.accepted(0, 1, 10),
+                ContractorBillingBatchResult.rejected(
+                    1, 1, "Contractor billing at given date already exists")));
+
+    mockMvc
+        .perform(
+            post(this.baseUrl + "/contractor/billing/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(requests)))
+        .andExpect(jsonPath("$.flag").value(true))
+        .andExpect(jsonPath("$.code").value(StatusCode.SUCCESS))
+        .andExpect(jsonPath("$.message").value("Contractor billings batch processed"))
+        .andExpect(jsonPath("$.data", Matchers.hasSize(2)))
+        .andExpect(jsonPath("$.data.[0].success").value(true))
+        .andExpect(jsonPath("$.data.[0].contractorBillingId").value(10))
+        .andExpect(jsonPath("$.data.[1].success").value(false));
+  }
+
   @Test
   void deleteContractorBilling() throws Exception {
 
@@ -227,15 +310,21 @@ class ContractorBillingControllerTest {
     Year year = Year.of(2023);
     Month month = Month.MARCH;
 
-    List<ContractorBilling> contractorByYearAndMonth = new ArrayList<>();
-    contractorByYearAndMonth.add(this.contractorBillings.get(0));
-    List<ContractorBillingDTO> contractorByYearAndMonthDto =
-        contractorByYearAndMonth.stream().map(ContractorBillingDTO::new).toList();
-
+    ContractorBilling contractorBilling = this.contractorBillings.get(0);
     ContractorBillingReportByMonth contractorBillingReportByMonth =
-        new ContractorBillingReportByMonth(contractorByYearAndMonthDto, year, month);
-
-    given(contractorBillingService.getContractorBillingsMonthlyReport(Year.of(2023), Month.MARCH))
+        new ContractorBillingReportByMonth(
+            new ContractorBillingMonthlySummary(
+                1L,
+                contractorBilling.getWorkedHours(),
+                contractorBilling.getContractorRemuneration(),
+                contractorBilling.getClientCharge(),
+                contractorBilling.getProfit()),
+            List.of(new ContractorBillingDTO(contractorBilling)),
+            year,
+            month,
+            184.0);
+
+    given(monthlyReportService.getMonthlyReport(Year.of(2023), Month.MARCH, true))
         .willReturn(contractorBillingReportByMonth);
 
     mockMvc
@@ -249,13 +338,46 @@ class ContractorBillingControllerTest {
         .andExpect(jsonPath("$.data").exists());
   }
 
+  @Test
+  void getContractorBillingsMonthlyReportWithoutDetails() throws Exception {
+    Year year = Year.of(2023);
+    Month month = Month.MARCH;
+
+    ContractorBillingReportByMonth contractorBillingReportByMonth =
+        new ContractorBillingReportByMonth(
+            new ContractorBillingMonthlySummary(
+                1L,
+                169.0,
+                this.contractorBillings.get(0).getContractorRemuneration(),
+                this.contractorBillings.get(0).getClientCharge(),
+                this.contractorBillings.get(0).getProfit()),
+            null,
+            year,
+            month,
+            184.0);
+
+    given(monthlyReportService.getMonthlyReport(year, month, false))
+        .willReturn(contractorBillingReportByMonth);
+
+    mockMvc
+        .perform(
+            get(this.baseUrl + "/contractor/billing/report")
+                .param("year", String.valueOf(year.getValue()))
+                .param("month", month.name())
+                .param("includeDetails", "false"))
+        .andExpect(jsonPath("$.flag").value(true))
+        .andExpect(jsonPath("$.code").value(StatusCode.SUCCESS))
+        .andExpect(jsonPath("$.data.billingsCount").value(1))
+        .andExpect(jsonPath("$.data.contractorBillingDTOS").doesNotExist());
+  }
+
   @Test
   void getContractorBillingsMonthlyReportNotFound() throws Exception {
 
     Year year = Year.of(2023);
     Month month = Month.MARCH;
 
-    given(contractorBillingService.getContractorBillingsMonthlyReport(Year.of(2023), Month.MARCH))
+    given(monthlyReportService.getMonthlyReport(Year.of(2023), Month.MARCH, true))
         .willThrow(
             new ObjectNotFoundException("contractor billings", year.toString(), month.name()));
 
@@ -271,4 +393,130 @@ class ContractorBillingControllerTest {
                 .value("Could not find contractor billings with given 2023 and MARCH"))
         .andExpect(jsonPath("$.data").isEmpty());
   }
+
+  @Test
+  void recalculatePendingBillings() throws Exception {
+    given(billingRecalculationService.recalculateNextBatch())
+        .willReturn(new RecalculationResult(1000, 42));
+
+    mockMvc
+        .perform(post(this.baseUrl + "/contractor/billing/recalculation"))
+        .andExpect(jsonPath("$.flag").value(true))
+        .andExpect(jsonPath("$.code").value(StatusCode.SUCCESS))
+        .andExpect(jsonPath("$.message").value("Recalculation batch finished"))
+        .andExpect(jsonPath("$.data.recalculated").value(1000))
+        .andExpect(jsonPath("$.data.remaining").value(42));
+  }
+
+  @Test
+  void importContractorBillings() throws Exception {
+    MockMultipartFile file =
+        new MockMultipartFile(
+            "file",
+            "billings.csv",
+            "text/csv",
+            "contractorId,workedHours,year,month\n1,160.0,2024,JANUARY\n99,10.0,2024,1\n"
+                .getBytes(StandardCharsets.UTF_8));
+    CsvImportResult result =
+        new CsvImportResult(
+            2, 1, 1, List.of(new CsvImportRejection(3, 99, "Could not find contractor with Id 99")));
+    given(contractorBillingCsvImportService.importCsv(any(InputStream.class))).willReturn(result);
+
+    mockMvc
+        .perform(multipart(this.baseUrl + "/contractor/billing/import").file(file))
+        .andExpect(jsonPath("$.flag").value(true))
+        .andExpect(jsonPath("$.code").value(StatusCode.SUCCESS))
+        .andExpect(jsonPath("$.message").value("Import finished"))
+        .andExpect(jsonPath("$.data.rowsRead").value(2))
+        .andExpect(jsonPath("$.data.imported").value(1))
+        .andExpect(jsonPath("$.data.rejected").value(1))
+        .andExpect(jsonPath("$.data.rejections[0].line").value(3))
+        .andExpect(
+            jsonPath("$.data.rejections[0].message").value("Could not find contractor with Id 99"));
+  }
+
+  @Test
+  void getQuarterlyRollup() throws Exception {
+    BillingRollupDTO rollup =
+        new BillingRollupDTO(
+            RollupGranularity.QUARTER,
+            "2024-Q1",
+            3L,
+            504.0,
+            new BigDecimal("21055.44"),
+            new BigDecimal("28560.00"),
+            new BigDecimal("7504.56"));
+    given(billingRollupService.getQuarterlyRollup(Year.of(2024), Quarter.Q1)).willReturn(rollup);
+
+    mockMvc
+        .perform(
+            get(this.baseUrl + "/contractor/billing/rollup/quarter")
+                .param("year", "2024")
+                .param("quarter", "Q1"))
+        .andExpect(jsonPath("$.flag").value(true))
+        .andExpect(jsonPath("$.code").value(StatusCode.SUCCESS))
+        .andExpect(jsonPath("$.data.period").value("2024-Q1"))
+        .andExpect(jsonPath("$.data.billingsCount").value(3))
+        .andExpect(jsonPath("$.data.profit").value(7504.56));
+  }
+
+  @Test
+  void getYearlyRollupNotFound() throws Exception {
+    given(billingRollupService.getYearlyRollup(Year.of(2019)))
+        .willThrow(new ObjectNotFoundException("billing rollup for 2019"));
+
+    mockMvc
+        .perform(get(this.baseUrl + "/contractor/billing/rollup/year").param("year", "2019"))
+        .andExpect(jsonPath("$.flag").value(false))
+        .andExpect(jsonPath("$.code").value(StatusCode.NOT_FOUND))
+        .andExpect(jsonPath("$.message").value("Could not find billing rollup for 2019"));
+  }
+
+  @Test
+  void rebuildRollup() throws Exception {
+    given(billingRollupService.rebuild()).willReturn(9);
+
+    mockMvc
+        .perform(post(this.baseUrl + "/contractor/billing/rollup/rebuild"))
+        .andExpect(jsonPath("$.flag").value(true))
+        .andExpect(jsonPath("$.message").value("Rollup rebuilt"))
+        .andExpect(jsonPath("$.data").value(9));
+  }
+
+  @Test
+  void simulateRates() throws Exception {
+    SimulationDelta delta =
+        new SimulationDelta(
+            2L,
+            new BigDecimal("750.00"),
+            new BigDecimal("0.00"),
+            new BigDecimal("-750.00"),
+            new BigDecimal("750.00"));
+    given(rateSimulationService.simulate(any()))
+        .willReturn(
+            new RateSimulationResult(
+                Year.of(2024), delta, Map.of(1, delta), Map.of(Month.MARCH, delta)));
+
+    mockMvc
+        .perform(
+            post(this.baseUrl + "/contractor/billing/simulation")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(
+                    "{\"year\":2024,\"overrides\":[{\"contractorId\":1,\"hourlyRate\":35.0}]}"))
+        .andExpect(jsonPath("$.flag").value(true))
+        .andExpect(jsonPath("$.message").value("Simulation finished"))
+        .andExpect(jsonPath("$.data.total.profit").value(-750.0))
+        .andExpect(jsonPath("$.data.months.MARCH.billingsCount").value(2));
+  }
+
+  @Test
+  void simulateRatesWithoutOverrides() throws Exception {
+    mockMvc
+        .perform(
+            post(this.baseUrl + "/contractor/billing/simulation")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"year\":2024,\"overrides\":[]}"))
+        .andExpect(jsonPath("$.flag").value(false))
+        .andExpect(jsonPath("$.code").value(StatusCode.INVALID_ARGUMENT));
+  }
 }
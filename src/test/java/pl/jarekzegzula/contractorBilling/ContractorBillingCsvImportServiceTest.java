@@ -0,0 +1,141 @@
+package pl.jarekzegzula.contractorBilling;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.postgresql.copy.CopyIn;
+import pl.jarekzegzula.contractorBilling.ContractorBillingCsvImportService.Rejections;
+import pl.jarekzegzula.contractorBilling.dto.CsvImportRejection;
+
+@ExtendWith(MockitoExtension.class)
+class ContractorBillingCsvImportServiceTest {
+
+  @Mock CopyIn copyIn;
+
+  @Test
+  void testStageSkipsHeaderAndParsesMonthsByNameAndNumber() throws Exception {
+    // Given
+    Rejections rejections = new Rejections(10);
+    InputStream csv =
+        csv(
+            "\uFEFFContractorId, workedHours, YEAR, month\n"
+                + "1,160.0,2024,january\n"
+                + "\n"
+                + "2, 7.5 ,2024,2\n"
+                + "3,0,9999,DECEMBER\n");
+
+    // When
+    long rowsRead = ContractorBillingCsvImportService.stage(csv, copyIn, rejections);
+
+    // Then
+    assertThat(rowsRead).isEqualTo(3);
+    assertThat(rejections.count()).isZero();
+    assertThat(staged())
+        .isEqualTo(
+            "2,1,160.0,2024,JANUARY\n" + "4,2,7.5,2024,FEBRUARY\n" + "5,3,0.0,9999,DECEMBER\n");
+  }
+
+  @Test
+  void testStageReportsFirstLineThatIsNotTheHeader() throws Exception {
+    // Given
+    Rejections rejections = new Rejections(10);
+    InputStream csv = csv("id,hours,year,month\n1,160.0,2024,1\n");
+
+    // When
+    long rowsRead = ContractorBillingCsvImportService.stage(csv, copyIn, rejections);
+
+    // Then
+    assertThat(rowsRead).isEqualTo(2);
+    assertThat(rejections.sorted())
+        .containsExactly(new CsvImportRejection(1, null, "Malformed billing row"));
+    assertThat(staged()).isEqualTo("2,1,160.0,2024,JANUARY\n");
+  }
+
+  @ParameterizedTest
+  @CsvSource(
+      delimiter = '|',
+      value = {
+        "1,10,2024                | Required billing fields are missing",
+        "1,,2024,1                | Required billing fields are missing",
+        "x,10,2024,1              | Malformed billing row",
+        "1,10,2024,13             | Malformed billing row",
+        "1,10,2024,SMARCH         | Malformed billing row",
+        "1,10,0,1                 | Billing year must be between 1 and 9999",
+        "1,10,10000,1             | Billing year must be between 1 and 9999",
+        "1,10,2147483647,1        | Billing year must be between 1 and 9999",
+        "1,-1,2024,1              | Given data is less or equal to zero",
+        "1,NaN,2024,1             | Given data is less or equal to zero",
+        "1,10.0005,2024,1         | Worked hours must have at most 4 integer and 3 fraction digits",
+        "1,10000,2024,1           | Worked hours must have at most 4 integer and 3 fraction digits"
+      })
+  void testStageRejectsInvalidRow(String row, String message) throws Exception {
+    // Given
+    Rejections rejections = new Rejections(10);
+
+    // When
+    long rowsRead = ContractorBillingCsvImportService.stage(csv(row + "\n"), copyIn, rejections);
+
+    // Then
+    assertThat(rowsRead).isEqualTo(1);
+    assertThat(rejections.sorted()).extracting(CsvImportRejection::line).containsExactly(1L);
+    assertThat(rejections.sorted())
+        .extracting(CsvImportRejection::message)
+        .containsExactly(message);
+    verifyNoInteractions(copyIn);
+  }
+
+  @Test
+  void testRejectionsKeepTheLowestLines() {
+    // Given
+    Rejections rejections = new Rejections(2);
+
+    // When
+    rejections.add(5, null, "Malformed billing row");
+    rejections.add(6, null, "Malformed billing row");
+    rejections.add(7, null, "Malformed billing row");
+    rejections.add(1, 3, "Contractor billing at given date already exists");
+
+    // Then
+    assertThat(rejections.count()).isEqualTo(4);
+    assertThat(rejections.sorted())
+        .containsExactly(
+            new CsvImportRejection(1, 3, "Contractor billing at given date already exists"),
+            new CsvImportRejection(5, null, "Malformed billing row"));
+  }
+
+  @Test
+  void testRejectionsWithoutReportedRowsStillCount() {
+    // Given
+    Rejections rejections = new Rejections(0);
+
+    // When
+    rejections.add(1, null, "Malformed billing row");
+
+    // Then
+    assertThat(rejections.count()).isEqualTo(1);
+    assertThat(rejections.sorted()).isEmpty();
+  }
+
+  private static InputStream csv(String content) {
+    return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private String staged() throws Exception {
+    ArgumentCaptor<byte[]> bytes = ArgumentCaptor.forClass(byte[].class);
+    ArgumentCaptor<Integer> length = ArgumentCaptor.forClass(Integer.class);
+    verify(copyIn).writeToCopy(bytes.capture(), eq(0), length.capture());
+    return new String(bytes.getValue(), 0, length.getValue(), StandardCharsets.UTF_8);
+  }
+}
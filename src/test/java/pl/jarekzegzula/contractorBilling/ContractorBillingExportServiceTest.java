@@ -0,0 +1,89 @@
+package pl.jarekzegzula.contractorBilling;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import pl.jarekzegzula.contractorBilling.dto.ContractorBillingDTO;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.time.Month;
+import java.time.Year;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class ContractorBillingExportServiceTest {
+
+  @Mock ContractorBillingRepository contractorBillingRepository;
+
+  ObjectMapper objectMapper;
+
+  ContractorBillingExportService contractorBillingExportService;
+
+  @BeforeEach
+  void setUp() {
+    this.objectMapper = new ObjectMapper().findAndRegisterModules();
+    this.contractorBillingExportService =
+        new ContractorBillingExportService(this.contractorBillingRepository, this.objectMapper);
+  }
+
+  @Test
+  void testWriteAll() throws Exception {
+    // Given
+    ContractorBillingDTO billing1 =
+        new ContractorBillingDTO(
+            1,
+            1,
+            168.0,
+            Year.of(2024),
+            Month.FEBRUARY,
+            BigDecimal.valueOf(5006.40),
+            BigDecimal.valueOf(6720.00),
+            BigDecimal.valueOf(1713.60));
+    ContractorBillingDTO billing2 =
+        new ContractorBillingDTO(
+            2,
+            2,
+            160.0,
+            Year.of(2024),
+            Month.MARCH,
+            BigDecimal.valueOf(5760.00),
+            BigDecimal.valueOf(8000.00),
+            BigDecimal.valueOf(2240.00));
+
+    given(contractorBillingRepository.streamAllDTOs()).willReturn(Stream.of(billing1, billing2));
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+    // When
+    contractorBillingExportService.writeAll(outputStream);
+
+    // Then
+    JsonNode json = objectMapper.readTree(outputStream.toByteArray());
+    assertThat(json.get("flag").asBoolean()).isTrue();
+    assertThat(json.get("code").asInt()).isEqualTo(200);
+    assertThat(json.get("data")).hasSize(2);
+    assertThat(json.get("data").get(0).get("id").asInt()).isEqualTo(1);
+    assertThat(json.get("data").get(1).get("month").asText()).isEqualTo("MARCH");
+  }
+
+  @Test
+  void testWriteAllEmpty() throws Exception {
+    // Given
+    given(contractorBillingRepository.streamAllDTOs()).willReturn(Stream.empty());
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+    // When
+    contractorBillingExportService.writeAll(outputStream);
+
+    // Then
+    JsonNode json = objectMapper.readTree(outputStream.toByteArray());
+    assertThat(json.get("data")).isEmpty();
+  }
+}
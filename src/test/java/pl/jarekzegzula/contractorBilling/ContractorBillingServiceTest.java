@@ -8,20 +8,26 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import pl.jarekzegzula.calc.Calculator;
 import pl.jarekzegzula.contract.ContractType;
 import pl.jarekzegzula.contractor.Contractor;
 import pl.jarekzegzula.contractor.ContractorRepository;
+import pl.jarekzegzula.contractorBilling.dto.ContractorBillingBatchResult;
 import pl.jarekzegzula.contractorBilling.dto.ContractorBillingDTO;
+import pl.jarekzegzula.contractorBilling.dto.ContractorBillingKey;
 import pl.jarekzegzula.requests.addNewRequest.NewContractorBillingRequest;
 import pl.jarekzegzula.requests.updateRequest.UpdateContractorBillingHoursRequest;
+import pl.jarekzegzula.system.KeysetPage;
 import pl.jarekzegzula.system.exception.ContractorAlreadyExistInGivenTimeException;
+import pl.jarekzegzula.system.exception.InvalidCursorException;
 import pl.jarekzegzula.system.exception.ObjectNotFoundException;
 import pl.jarekzegzula.system.exception.SameHoursOrLessThanZeroException;
 
 import java.math.BigDecimal;
 import java.time.Month;
 import java.time.Year;
+import java.time.YearMonth;
 import java.util.*;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -29,6 +35,7 @@ import static org.assertj.core.api.Assertions.catchThrowable;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -40,6 +47,10 @@ class ContractorBillingServiceTest {
 
   @Mock private ContractorRepository contractorRepository;
 
+  @Mock private ContractorBillingJdbcRepository contractorBillingJdbcRepository;
+
+  @Mock private ApplicationEventPublisher eventPublisher;
+
   @InjectMocks private ContractorBillingService contractorBillingService;
 
   List<ContractorBilling> contractorBillings;
@@ -118,12 +129,45 @@ class ContractorBillingServiceTest {
   void tearDown() {}
 
   @Test
-  void testFindAll() {
-    given(contractorBillingRepository.findAll()).willReturn(contractorBillings);
+  void testFindAllDTOs() {
+    List<ContractorBillingDTO> contractorBillingDTOS =
+        contractorBillings.stream().map(ContractorBillingDTO::new).toList();
+    given(contractorBillingRepository.findAllDTOs()).willReturn(contractorBillingDTOS);
+
+    List<ContractorBillingDTO> result = contractorBillingService.findAllDTOs();
+
+    assertThat(result).isEqualTo(contractorBillingDTOS);
+    verify(contractorBillingRepository, Mockito.never()).findAll();
+  }
+
+  @Test
+  void testFindDTOsPageSortedByPeriod() {
+    // Given
+    List<ContractorBillingDTO> rows =
+        contractorBillings.stream().map(ContractorBillingDTO::new).toList();
+    given(contractorBillingRepository.findDTOsByPeriodAfter(eq(202302), eq(7), any()))
+        .willReturn(rows);
 
-    List<ContractorBilling> result = contractorBillingService.findAll();
+    // When
+    KeysetPage<ContractorBillingDTO> page =
+        contractorBillingService.findDTOsPage("202302-7", 1, BillingSortOrder.PERIOD);
 
-    assertEquals(result.size(), 2);
+    // Then
+    assertThat(page.items()).containsExactly(rows.get(0));
+    assertThat(page.nextCursor()).isEqualTo("202303-" + rows.get(0).getId());
+  }
+
+  @Test
+  void testFindDTOsPageInvalidCursor() {
+    // When
+    Throwable thrown =
+        catchThrowable(
+            () -> contractorBillingService.findDTOsPage("7", 10, BillingSortOrder.PERIOD));
+
+    // Then
+    assertThat(thrown)
+        .isInstanceOf(InvalidCursorException.class)
+        .hasMessage("Invalid page cursor 7");
   }
 
   @Test
@@ -187,6 +231,7 @@ class ContractorBillingServiceTest {
     testContractor1.setContractorHourPrice(80.0);
 
     ContractorBilling contractorBilling = new ContractorBilling();
+    contractorBilling.setId(51);
     contractorBilling.setContractor(testContractor1);
     contractorBilling.setWorkedHours(request.workedHours());
     contractorBilling.setYear(request.year());
@@ -201,12 +246,8 @@ class ContractorBillingServiceTest {
             contractorBilling.getClientCharge(), contractorBilling.getContractorRemuneration()));
 
     given(contractorRepository.findById(1)).willReturn(Optional.of(testContractor1));
-    given(
-            contractorBillingRepository.existsByContractorIdAndYearAndMonth(
-                1, Year.of(2023), Month.MARCH))
-        .willReturn(false);
-    given(contractorBillingRepository.save(Mockito.any(ContractorBilling.class)))
-        .willReturn(contractorBilling);
+    given(contractorBillingJdbcRepository.insertIfAbsent(any(ContractorBilling.class)))
+        .willReturn(Optional.of(51));
 
     // When
 
@@ -226,9 +267,12 @@ class ContractorBillingServiceTest {
     assertNotNull(contractorBilling2.getProfit());
 
     verify(contractorRepository, Mockito.times(1)).findById(1);
-    verify(contractorBillingRepository, Mockito.times(1))
-        .existsByContractorIdAndYearAndMonth(1, Year.of(2023), Month.MARCH);
-    verify(contractorBillingRepository, Mockito.times(1)).save(any(ContractorBilling.class));
+    verify(contractorBillingJdbcRepository, Mockito.times(1))
+        .insertIfAbsent(any(ContractorBilling.class));
+    verify(contractorBillingRepository, Mockito.never()).save(any(ContractorBilling.class));
+    verify(eventPublisher, times(1))
+        .publishEvent(
+            new ContractorBillingsChangedEvent(Set.of(1), Set.of(YearMonth.of(2023, Month.MARCH))));
 
     System.out.println(contractorBilling2);
   }
@@ -239,12 +283,16 @@ class ContractorBillingServiceTest {
     NewContractorBillingRequest request =
         new NewContractorBillingRequest(1, 150.0, Year.of(2023), Month.MARCH);
 
-    given(contractorRepository.findById(anyInt())).willReturn(Optional.of(new Contractor()));
+    Contractor contractor = new Contractor();
+    contractor.setId(1);
+    contractor.setContractType(ContractType.CONTRACT_OF_MANDATE);
+    contractor.setHourlyRate(59.53);
+    contractor.setContractorHourPrice(80.0);
+
+    given(contractorRepository.findById(anyInt())).willReturn(Optional.of(contractor));
 
-    given(
-            contractorBillingRepository.existsByContractorIdAndYearAndMonth(
-                anyInt(), any(Year.class), any(Month.class)))
-        .willReturn(true);
+    given(contractorBillingJdbcRepository.insertIfAbsent(any(ContractorBilling.class)))
+        .willReturn(Optional.empty());
 
     // When and Then
 
@@ -256,6 +304,69 @@ class ContractorBillingServiceTest {
     assertThat(thrown)
         .isInstanceOf(ContractorAlreadyExistInGivenTimeException.class)
         .hasMessage("Contractor billing at given date already exists");
+    verify(eventPublisher, Mockito.never()).publishEvent(any(Object.class));
+  }
+
+  @Test
+  void testAddNewContractorBillingsBatch() {
+    // Given
+    List<NewContractorBillingRequest> requests =
+        List.of(
+            new NewContractorBillingRequest(1, 150.0, Year.of(2023), Month.MARCH),
+            new NewContractorBillingRequest(2, 120.0, Year.of(2023), Month.MARCH),
+            new NewContractorBillingRequest(1, 160.0, Year.of(2023), Month.APRIL),
+            new NewContractorBillingRequest(1, 170.0, Year.of(2023), Month.APRIL),
+            new NewContractorBillingRequest(3, 100.0, Year.of(2023), Month.MARCH),
+            new NewContractorBillingRequest(1, -1.0, Year.of(2023), Month.MAY),
+            new NewContractorBillingRequest(null, 100.0, Year.of(2023), Month.MAY),
+            new NewContractorBillingRequest(1, 100.0005, Year.of(2023), Month.JUNE),
+            new NewContractorBillingRequest(2, 110.0, Year.of(2023), Month.JULY),
+            new NewContractorBillingRequest(1, 100.0, Year.of(10000), Month.JANUARY));
+
+    given(contractorRepository.findAllById(any())).willReturn(contractors);
+    given(contractorBillingRepository.findKeysByContractorIdInAndYearIn(any(), any()))
+        .willReturn(List.of(new ContractorBillingKey(2, Year.of(2023), Month.MARCH)));
+    given(contractorBillingJdbcRepository.insertAllIfAbsent(any()))
+        .willAnswer(
+            invocation -> {
+              List<ContractorBilling> billings = invocation.getArgument(0);
+              for (int i = 0; i < billings.size(); i++) {
+                billings.get(i).setId(100 + i);
+              }
+              // The third accepted billing lost a race with a concurrent insert
+              return Set.of(100, 101);
+            });
+
+    // When
+    List<ContractorBillingBatchResult> results =
+        contractorBillingService.addNewContractorBillings(requests);
+
+    // Then
+    assertThat(results).hasSize(requests.size());
+    assertThat(results.get(0).success()).isTrue();
+    assertThat(results.get(0).contractorBillingId()).isEqualTo(100);
+    assertThat(results.get(1).message())
+        .isEqualTo("Contractor billing at given date already exists");
+    assertThat(results.get(2).success()).isTrue();
+    assertThat(results.get(2).contractorBillingId()).isEqualTo(101);
+    assertThat(results.get(3).message())
+        .isEqualTo("Contractor billing at given date already exists");
+    assertThat(results.get(4).message()).isEqualTo("Could not find contractor with Id 3");
+    assertThat(results.get(5).message()).isEqualTo("Given data is less or equal to zero");
+    assertThat(results.get(6).message()).isEqualTo("Required billing fields are missing");
+    assertThat(results.get(7).message())
+        .isEqualTo("Worked hours must have at most 4 integer and 3 fraction digits");
+    assertThat(results.get(8).success()).isFalse();
+    assertThat(results.get(8).message())
+        .isEqualTo("Contractor billing at given date already exists");
+    assertThat(results.get(9).message()).isEqualTo("Billing year must be between 1 and 9999");
+
+    verify(contractorRepository, times(1)).findAllById(any());
+    verify(contractorBillingRepository, times(1))
+        .findKeysByContractorIdInAndYearIn(any(), any());
+    verify(contractorBillingJdbcRepository, times(1)).insertAllIfAbsent(any());
+    verify(contractorBillingRepository, Mockito.never()).saveAll(any());
+    verify(eventPublisher, times(1)).publishEvent(any(ContractorBillingsChangedEvent.class));
   }
 
   @Test
@@ -268,6 +379,9 @@ class ContractorBillingServiceTest {
 
     ContractorBilling existingContractorBilling = new ContractorBilling();
     existingContractorBilling.setId(id);
+    existingContractorBilling.setContractor(contractors.get(0));
+    existingContractorBilling.setYear(Year.of(2023));
+    existingContractorBilling.setMonth(Month.MARCH);
     existingContractorBilling.setWorkedHours(100.0);
 
     given(contractorBillingRepository.findById(id))
@@ -280,6 +394,10 @@ class ContractorBillingServiceTest {
     // Then
 
     assertEquals(updateRequest.workedHours(), existingContractorBilling.getWorkedHours(), 0.01);
+    assertThat(existingContractorBilling.getContractorRemuneration())
+        .isEqualTo(Calculator.calculateContractorPayment(150.0, contractors.get(0)));
+    assertThat(existingContractorBilling.getClientCharge())
+        .isEqualTo(Calculator.calculateClientsChargeFromContractorHours(150.0, contractors.get(0)));
   }
 
   @Test
@@ -309,11 +427,14 @@ class ContractorBillingServiceTest {
   @Test
   void testDeleteContractorById() {
     given(this.contractorBillingRepository.findById(1))
-        .willReturn(Optional.of(new ContractorBilling()));
+        .willReturn(Optional.of(contractorBillings.get(0)));
 
     this.contractorBillingService.deleteContractorBillingById(1);
 
     verify(this.contractorBillingRepository, times(1)).deleteById(1);
+    verify(this.eventPublisher, times(1))
+        .publishEvent(
+            new ContractorBillingsChangedEvent(Set.of(1), Set.of(YearMonth.of(2023, Month.MARCH))));
   }
 
   @Test
@@ -335,53 +456,6 @@ class ContractorBillingServiceTest {
     verify(contractorBillingRepository, times(1)).findById(id);
   }
 
-  @Test
-  void testGetContractorBillingMonthlyReportSuccess() {
-    // Given
-
-    Year year = Year.of(2023);
-    Month month = Month.MARCH;
-
-    List<ContractorBilling> contractorByYearAndMonth = new ArrayList<>();
-    contractorByYearAndMonth.add(contractorBillings.get(0));
-    List<ContractorBillingDTO> contractorBillingDTOS =
-        contractorByYearAndMonth.stream().map(ContractorBillingDTO::new).toList();
-
-    ContractorBillingReportByMonth contractorBillingReportByMonth =
-        new ContractorBillingReportByMonth(contractorBillingDTOS, year, month);
-
-    given(contractorBillingRepository.findByYearAndMonth(any(), any()))
-        .willReturn(contractorByYearAndMonth);
-    // When
-    ContractorBillingReportByMonth contractorsWorkedHoursInGivenMonth =
-        contractorBillingService.getContractorBillingsMonthlyReport(year, month);
-
-    // Then
-    assertThat(contractorsWorkedHoursInGivenMonth).isEqualTo(contractorBillingReportByMonth);
-  }
-
-  @Test
-  void testGetContractorBillingMonthlyReportNotFound() {
-    // Given
-    Year year = Year.of(2023);
-    Month month = Month.MARCH;
-
-    given(contractorBillingRepository.findByYearAndMonth(any(), any()))
-        .willReturn(Collections.emptyList());
-
-    // When
-    Throwable error =
-        assertThrows(
-            ObjectNotFoundException.class,
-            () -> contractorBillingService.getContractorBillingsMonthlyReport(year, month));
-
-    // Then
-    assertThat(error)
-        .isInstanceOf(ObjectNotFoundException.class)
-        .hasMessage("Could not find contractor billings with given " + year + " and " + month);
-    verify(contractorBillingRepository, times(1)).findByYearAndMonth(year, month);
-  }
-
   @Test
   public void testCalculateProfit() {
     // given
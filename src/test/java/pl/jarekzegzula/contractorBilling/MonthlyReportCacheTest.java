@@ -0,0 +1,98 @@
+package pl.jarekzegzula.contractorBilling;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import pl.jarekzegzula.contractorBilling.dto.ContractorBillingMonthlySummary;
+import pl.jarekzegzula.system.CacheConfiguration;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Month;
+import java.time.Year;
+import java.time.YearMonth;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MonthlyReportCacheTest {
+
+  MonthlyReportCache monthlyReportCache;
+
+  ContractorBillingReportByMonth report;
+
+  AtomicInteger loads;
+
+  @BeforeEach
+  void setUp() {
+    Duration ttl = Duration.ofMinutes(1);
+    this.monthlyReportCache =
+        new MonthlyReportCache(
+            new CacheConfiguration().cacheManager(10, ttl, 10, ttl, 10, ttl));
+    this.report =
+        new ContractorBillingReportByMonth(
+            new ContractorBillingMonthlySummary(
+                1L,
+                168.0,
+                BigDecimal.valueOf(5006.40),
+                BigDecimal.valueOf(6720.00),
+                BigDecimal.valueOf(1713.60)),
+            null,
+            Year.of(2024),
+            Month.FEBRUARY,
+            168.0);
+    this.loads = new AtomicInteger();
+  }
+
+  @Test
+  void testLoadsOnceThenServesCachedReport() {
+    YearMonth yearMonth = YearMonth.of(2024, Month.FEBRUARY);
+
+    monthlyReportCache.get(yearMonth, false, this::load);
+    ContractorBillingReportByMonth cached = monthlyReportCache.get(yearMonth, false, this::load);
+
+    assertThat(cached).isSameAs(report);
+    assertThat(loads).hasValue(1);
+    monthlyReportCache.get(yearMonth, true, this::load);
+    assertThat(loads).hasValue(2);
+  }
+
+  @Test
+  void testEvictOnlyChangedMonths() {
+    YearMonth february = YearMonth.of(2024, Month.FEBRUARY);
+    YearMonth march = YearMonth.of(2024, Month.MARCH);
+    monthlyReportCache.get(february, false, this::load);
+    monthlyReportCache.get(february, true, this::load);
+    monthlyReportCache.get(march, false, this::load);
+
+    monthlyReportCache.onContractorBillingsChanged(
+        new ContractorBillingsChangedEvent(Set.of(1), Set.of(february)));
+
+    monthlyReportCache.get(february, false, this::load);
+    monthlyReportCache.get(february, true, this::load);
+    monthlyReportCache.get(march, false, this::load);
+    assertThat(loads).hasValue(5);
+  }
+
+  @Test
+  void testReportLoadedBeforeEvictionIsNotStored() {
+    YearMonth yearMonth = YearMonth.of(2024, Month.FEBRUARY);
+
+    // A write commits and evicts the month while the report is still being built
+    monthlyReportCache.get(
+        yearMonth,
+        false,
+        () -> {
+          monthlyReportCache.evict(yearMonth);
+          return load();
+        });
+    monthlyReportCache.get(yearMonth, false, this::load);
+
+    assertThat(loads).hasValue(2);
+  }
+
+  private ContractorBillingReportByMonth load() {
+    loads.incrementAndGet();
+    return report;
+  }
+}
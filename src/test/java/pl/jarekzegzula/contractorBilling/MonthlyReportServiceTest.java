@@ -0,0 +1,140 @@
+package pl.jarekzegzula.contractorBilling;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Month;
+import java.time.Year;
+import java.time.YearMonth;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import pl.jarekzegzula.calc.WorkingCalendar;
+import pl.jarekzegzula.contractorBilling.dto.ContractorBillingDTO;
+import pl.jarekzegzula.contractorBilling.dto.ContractorBillingMonthlySummary;
+import pl.jarekzegzula.system.CacheConfiguration;
+import pl.jarekzegzula.system.exception.ObjectNotFoundException;
+
+@ExtendWith(MockitoExtension.class)
+class MonthlyReportServiceTest {
+
+  @Mock ContractorBillingRepository contractorBillingRepository;
+
+  @Mock WorkingCalendar workingCalendar;
+
+  @Mock PlatformTransactionManager transactionManager;
+
+  MonthlyReportService monthlyReportService;
+
+  Year year = Year.of(2023);
+
+  Month month = Month.MARCH;
+
+  ContractorBillingMonthlySummary summary =
+      new ContractorBillingMonthlySummary(
+          1L,
+          160.0,
+          new BigDecimal("5016.00"),
+          new BigDecimal("6720.00"),
+          new BigDecimal("1704.00"));
+
+  List<ContractorBillingDTO> billings =
+      List.of(
+          new ContractorBillingDTO(
+              1,
+              1,
+              160.0,
+              year,
+              month,
+              new BigDecimal("5016.00"),
+              new BigDecimal("6720.00"),
+              new BigDecimal("1704.00")));
+
+  @BeforeEach
+  void setUp() {
+    Duration ttl = Duration.ofMinutes(1);
+    MonthlyReportCache monthlyReportCache =
+        new MonthlyReportCache(
+            new CacheConfiguration().cacheManager(10, ttl, 10, ttl, 10, ttl));
+    this.monthlyReportService =
+        new MonthlyReportService(
+            contractorBillingRepository, monthlyReportCache, workingCalendar, transactionManager);
+  }
+
+  @Test
+  void testGetMonthlyReportSuccess() {
+    // Given
+    given(contractorBillingRepository.summarizeByYearAndMonth(year, month)).willReturn(summary);
+    given(contractorBillingRepository.findDTOsByYearAndMonth(year, month)).willReturn(billings);
+    given(workingCalendar.workingHours(YearMonth.of(2023, Month.MARCH))).willReturn(184.0);
+
+    // When
+    ContractorBillingReportByMonth report =
+        monthlyReportService.getMonthlyReport(year, month, true);
+
+    // Then
+    assertThat(report)
+        .isEqualTo(new ContractorBillingReportByMonth(summary, billings, year, month, 184.0));
+  }
+
+  @Test
+  void testGetMonthlyReportFromCache() {
+    // Given
+    given(contractorBillingRepository.summarizeByYearAndMonth(year, month)).willReturn(summary);
+    given(contractorBillingRepository.findDTOsByYearAndMonth(year, month)).willReturn(billings);
+
+    // When
+    ContractorBillingReportByMonth first = monthlyReportService.getMonthlyReport(year, month, true);
+    ContractorBillingReportByMonth second =
+        monthlyReportService.getMonthlyReport(year, month, true);
+
+    // Then
+    assertThat(second).isSameAs(first);
+    verify(contractorBillingRepository, times(1)).summarizeByYearAndMonth(year, month);
+    verify(transactionManager, times(1)).getTransaction(any());
+  }
+
+  @Test
+  void testGetMonthlyReportWithoutDetails() {
+    // Given
+    given(contractorBillingRepository.summarizeByYearAndMonth(year, month)).willReturn(summary);
+
+    // When
+    ContractorBillingReportByMonth report =
+        monthlyReportService.getMonthlyReport(year, month, false);
+
+    // Then
+    assertThat(report.getBillingsCount()).isEqualTo(1L);
+    assertThat(report.getExpense()).isEqualTo(new BigDecimal("5016.00"));
+    assertThat(report.getIncome()).isEqualTo(new BigDecimal("6720.00"));
+    assertThat(report.getContractorBillingDTOS()).isNull();
+    verify(contractorBillingRepository, never()).findDTOsByYearAndMonth(any(), any());
+  }
+
+  @Test
+  void testGetMonthlyReportNotFound() {
+    // Given
+    given(contractorBillingRepository.summarizeByYearAndMonth(any(), any()))
+        .willReturn(new ContractorBillingMonthlySummary(0L, null, null, null, null));
+
+    // When
+    Throwable error = catchThrowable(() -> monthlyReportService.getMonthlyReport(year, month, true));
+
+    // Then
+    assertThat(error)
+        .isInstanceOf(ObjectNotFoundException.class)
+        .hasMessage("Could not find contractor billings with given " + year + " and " + month);
+    verify(contractorBillingRepository, never()).findDTOsByYearAndMonth(any(), any());
+  }
+}
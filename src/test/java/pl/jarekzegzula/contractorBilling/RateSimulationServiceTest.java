@@ -0,0 +1,100 @@
+package pl.jarekzegzula.contractorBilling;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.math.BigDecimal;
+import java.time.Month;
+import java.time.Year;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import pl.jarekzegzula.contract.ContractType;
+import pl.jarekzegzula.contractor.Contractor;
+import pl.jarekzegzula.contractor.ContractorRepository;
+import pl.jarekzegzula.contractorBilling.dto.RateSimulationResult;
+import pl.jarekzegzula.contractorBilling.dto.SimulationDelta;
+import pl.jarekzegzula.requests.simulationRequest.ContractorTermsOverride;
+import pl.jarekzegzula.requests.simulationRequest.RateSimulationRequest;
+import pl.jarekzegzula.system.exception.ObjectNotFoundException;
+
+@ExtendWith(MockitoExtension.class)
+class RateSimulationServiceTest {
+
+  @Mock ContractorRepository contractorRepository;
+
+  @Mock ContractorBillingJdbcRepository contractorBillingJdbcRepository;
+
+  @InjectMocks RateSimulationService rateSimulationService;
+
+  @Test
+  void testSimulateHourlyRateChange() {
+    // Given
+    Contractor contractor = new Contractor();
+    contractor.setId(1);
+    contractor.setContractType(ContractType.CONTRACT_OF_MANDATE);
+    contractor.setHourlyRate(30.0);
+    contractor.setMonthlyHourLimit(160);
+    contractor.setMonthlyEarnings(4800.0);
+    contractor.setIsOvertimePaid(false);
+    contractor.setOvertimeMultiplier(1.0);
+    contractor.setContractorHourPrice(40.0);
+
+    HistoricalBillings billings = new HistoricalBillings();
+    billings.add(1, 3, 100.0, 300_000, 400_000);
+    billings.add(1, 4, 50.0, 150_000, 200_000);
+
+    Year year = Year.of(2024);
+    given(contractorRepository.findAllById(Set.of(1))).willReturn(List.of(contractor));
+    given(contractorBillingJdbcRepository.findHistoricalBillings(year, Set.of(1)))
+        .willReturn(billings);
+
+    RateSimulationRequest request =
+        new RateSimulationRequest(
+            year, List.of(new ContractorTermsOverride(1, 35.0, null, null, null, null)));
+
+    // When
+    RateSimulationResult result = rateSimulationService.simulate(request);
+
+    // Then
+    assertThat(result.total())
+        .isEqualTo(
+            new SimulationDelta(
+                2L,
+                new BigDecimal("750.00"),
+                new BigDecimal("0.00"),
+                new BigDecimal("-750.00"),
+                new BigDecimal("750.00")));
+    assertThat(result.contractors()).containsOnlyKeys(1);
+    assertThat(result.months()).containsOnlyKeys(Month.MARCH, Month.APRIL);
+    assertThat(result.months().get(Month.MARCH).profit()).isEqualTo(new BigDecimal("-500.00"));
+    assertThat(contractor.getHourlyRate()).isEqualTo(30.0);
+  }
+
+  @Test
+  void testSimulateUnknownContractor() {
+    // Given
+    given(contractorRepository.findAllById(Set.of(7))).willReturn(List.of());
+
+    RateSimulationRequest request =
+        new RateSimulationRequest(
+            Year.of(2024), List.of(new ContractorTermsOverride(7, 35.0, null, null, null, null)));
+
+    // When
+    Throwable thrown = catchThrowable(() -> rateSimulationService.simulate(request));
+
+    // Then
+    assertThat(thrown)
+        .isInstanceOf(ObjectNotFoundException.class)
+        .hasMessage("Could not find contractor with Id 7");
+    verify(contractorBillingJdbcRepository, never()).findHistoricalBillings(any(), any());
+  }
+}
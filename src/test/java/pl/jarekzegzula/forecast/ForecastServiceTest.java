@@ -0,0 +1,171 @@
+package pl.jarekzegzula.forecast;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import pl.jarekzegzula.contract.ContractType;
+import pl.jarekzegzula.contractor.Contractor;
+import pl.jarekzegzula.contractor.ContractorRepository;
+import pl.jarekzegzula.contractor.ContractorTermsChangedEvent;
+import pl.jarekzegzula.forecast.dto.ForecastResult;
+import pl.jarekzegzula.forecast.dto.MonthlyForecast;
+
+@ExtendWith(MockitoExtension.class)
+class ForecastServiceTest {
+
+  private static final YearMonth FIRST_MONTH = YearMonth.of(2025, 3);
+
+  @Mock ContractorRepository contractorRepository;
+
+  @Mock BillingHistoryRepository billingHistoryRepository;
+
+  CacheManager cacheManager = new ConcurrentMapCacheManager();
+
+  Contractor contractor;
+
+  @BeforeEach
+  void setUp() {
+    contractor = new Contractor();
+    contractor.setId(1);
+    contractor.setContractType(ContractType.CONTRACT_OF_MANDATE);
+    contractor.setHourlyRate(30.0);
+    contractor.setMonthlyHourLimit(160);
+    contractor.setMonthlyEarnings(4800.0);
+    contractor.setIsOvertimePaid(false);
+    contractor.setOvertimeMultiplier(1.0);
+    contractor.setContractorHourPrice(40.0);
+  }
+
+  @Test
+  void testSeasonalNaiveForecast() {
+    // Given
+    ForecastService forecastService = service(ForecastModel.SEASONAL_NAIVE);
+    given(contractorRepository.findAll()).willReturn(List.of(contractor));
+    given(billingHistoryRepository.findMonthlyHours(List.of(1), YearMonth.of(2024, 3)))
+        .willReturn(
+            Map.of(
+                1,
+                new TreeMap<>(
+                    Map.of(YearMonth.of(2024, 3), 100.0, YearMonth.of(2024, 4), 120.0))));
+
+    // When
+    ForecastResult result = forecastService.forecast(2, FIRST_MONTH);
+
+    // Then
+    assertThat(result.model()).isEqualTo(ForecastModel.SEASONAL_NAIVE);
+    assertThat(result.contractors()).hasSize(1);
+    assertThat(result.totals())
+        .containsExactly(
+            new MonthlyForecast(
+                FIRST_MONTH,
+                100.0,
+                new BigDecimal("3000.00"),
+                new BigDecimal("4000.00"),
+                new BigDecimal("1000.00")),
+            new MonthlyForecast(
+                FIRST_MONTH.plusMonths(1),
+                120.0,
+                new BigDecimal("3600.00"),
+                new BigDecimal("4800.00"),
+                new BigDecimal("1200.00")));
+  }
+
+  @Test
+  void testMovingAverageForecast() {
+    // Given
+    ForecastService forecastService = service(ForecastModel.MOVING_AVERAGE);
+    given(contractorRepository.findAll()).willReturn(List.of(contractor));
+    given(billingHistoryRepository.findMonthlyHours(List.of(1), YearMonth.of(2024, 3)))
+        .willReturn(
+            Map.of(
+                1,
+                new TreeMap<>(
+                    Map.of(
+                        YearMonth.of(2024, 3), 10.0,
+                        YearMonth.of(2024, 12), 150.0,
+                        YearMonth.of(2025, 1), 160.0,
+                        YearMonth.of(2025, 2), 170.0))));
+
+    // When
+    ForecastResult result = forecastService.forecast(3, FIRST_MONTH);
+
+    // Then
+    assertThat(result.totals()).hasSize(3);
+    assertThat(result.totals()).extracting(MonthlyForecast::workedHours).containsOnly(160.0);
+  }
+
+  @Test
+  void testForecastIsRecomputedOnlyAfterTermsChange() {
+    // Given
+    ForecastService forecastService = service(ForecastModel.SEASONAL_NAIVE);
+    given(contractorRepository.findAll()).willReturn(List.of(contractor));
+    given(billingHistoryRepository.findMonthlyHours(any(), any())).willReturn(Map.of());
+
+    // When
+    forecastService.forecast(2, FIRST_MONTH);
+    forecastService.forecast(2, FIRST_MONTH);
+    forecastService.onContractorTermsChanged(new ContractorTermsChangedEvent(1));
+    forecastService.forecast(2, FIRST_MONTH);
+
+    // Then
+    verify(billingHistoryRepository, times(2)).findMonthlyHours(List.of(1), YearMonth.of(2024, 3));
+  }
+
+  @Test
+  void testForecastComputedDuringTermsChangeIsNotCached() {
+    // Given
+    ForecastService forecastService = service(ForecastModel.SEASONAL_NAIVE);
+    given(contractorRepository.findAll()).willReturn(List.of(contractor));
+    given(billingHistoryRepository.findMonthlyHours(any(), any()))
+        .willAnswer(
+            invocation -> {
+              forecastService.onContractorTermsChanged(new ContractorTermsChangedEvent(1));
+              return Map.of();
+            })
+        .willReturn(Map.of());
+
+    // When
+    forecastService.forecast(2, FIRST_MONTH);
+    forecastService.forecast(2, FIRST_MONTH);
+    forecastService.forecast(2, FIRST_MONTH);
+
+    // Then
+    verify(billingHistoryRepository, times(2)).findMonthlyHours(List.of(1), YearMonth.of(2024, 3));
+  }
+
+  @Test
+  void testMaxMonthsMustBePositive() {
+    assertThatThrownBy(
+            () ->
+                new ForecastService(
+                    contractorRepository,
+                    billingHistoryRepository,
+                    cacheManager,
+                    ForecastModel.MOVING_AVERAGE,
+                    3,
+                    0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("forecast.max-months must be at least 1");
+  }
+
+  private ForecastService service(ForecastModel model) {
+    return new ForecastService(
+        contractorRepository, billingHistoryRepository, cacheManager, model, 3, 12);
+  }
+}
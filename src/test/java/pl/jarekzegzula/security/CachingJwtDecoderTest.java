@@ -0,0 +1,89 @@
+package pl.jarekzegzula.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+@ExtendWith(MockitoExtension.class)
+class CachingJwtDecoderTest {
+
+  @Mock JwtDecoder delegate;
+
+  SimpleMeterRegistry meterRegistry;
+
+  CachingJwtDecoder jwtDecoder;
+
+  @BeforeEach
+  void setUp() {
+    this.meterRegistry = new SimpleMeterRegistry();
+    this.jwtDecoder = new CachingJwtDecoder(this.delegate, 100, this.meterRegistry);
+  }
+
+  @Test
+  void testDecodeVerifiesTokenOnceUntilItExpires() {
+    // Given
+    Jwt jwt = jwt("token", Instant.now().plusSeconds(900));
+    given(this.delegate.decode("token")).willReturn(jwt);
+
+    // When
+    Jwt first = this.jwtDecoder.decode("token");
+    Jwt second = this.jwtDecoder.decode("token");
+
+    // Then
+    assertThat(first).isSameAs(jwt);
+    assertThat(second).isSameAs(jwt);
+    verify(this.delegate, times(1)).decode("token");
+    assertThat(this.meterRegistry.get("jwt.verification").timer().count()).isEqualTo(1);
+    assertThat(this.meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count())
+        .isEqualTo(1);
+  }
+
+  @Test
+  void testDecodeDoesNotCacheRejectedTokens() {
+    // Given
+    given(this.delegate.decode("token")).willThrow(new BadJwtException("Invalid signature"));
+
+    // When
+    assertThatThrownBy(() -> this.jwtDecoder.decode("token")).isInstanceOf(BadJwtException.class);
+    assertThatThrownBy(() -> this.jwtDecoder.decode("token")).isInstanceOf(BadJwtException.class);
+
+    // Then
+    verify(this.delegate, times(2)).decode("token");
+  }
+
+  @Test
+  void testDecodeDoesNotCacheExpiredTokens() {
+    // Given
+    Jwt jwt = jwt("token", Instant.now().minusSeconds(1));
+    given(this.delegate.decode("token")).willReturn(jwt);
+
+    // When
+    this.jwtDecoder.decode("token");
+    this.jwtDecoder.decode("token");
+
+    // Then
+    verify(this.delegate, times(2)).decode("token");
+  }
+
+  private static Jwt jwt(String token, Instant expiresAt) {
+    return Jwt.withTokenValue(token)
+        .header("alg", "RS256")
+        .subject("user")
+        .issuedAt(expiresAt.minusSeconds(900))
+        .expiresAt(expiresAt)
+        .build();
+  }
+}
@@ -0,0 +1,116 @@
+package pl.jarekzegzula.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import pl.jarekzegzula.user.AppUserDeletedEvent;
+
+@ExtendWith(MockitoExtension.class)
+class VerifiedCredentialsPasswordEncoderTest {
+
+  @Mock PasswordEncoder delegate;
+
+  VerifiedCredentialsPasswordEncoder passwordEncoder;
+
+  @BeforeEach
+  void setUp() {
+    this.passwordEncoder =
+        new VerifiedCredentialsPasswordEncoder(this.delegate, 100, Duration.ofMinutes(5));
+  }
+
+  @Test
+  void testMatchesVerifiesOnlyOnceForRepeatedCredentials() {
+    // Given
+    given(this.delegate.matches("1234", "$2a$12$hash")).willReturn(true);
+
+    // When
+    boolean first = this.passwordEncoder.matches("1234", "$2a$12$hash");
+    boolean second = this.passwordEncoder.matches("1234", "$2a$12$hash");
+
+    // Then
+    assertThat(first).isTrue();
+    assertThat(second).isTrue();
+    verify(this.delegate, times(1)).matches("1234", "$2a$12$hash");
+  }
+
+  @Test
+  void testMatchesDelegatesWrongPasswordEvenWhenAnotherIsCached() {
+    // Given
+    given(this.delegate.matches("1234", "$2a$12$hash")).willReturn(true);
+    given(this.delegate.matches("4321", "$2a$12$hash")).willReturn(false);
+    this.passwordEncoder.matches("1234", "$2a$12$hash");
+
+    // When
+    boolean matches = this.passwordEncoder.matches("4321", "$2a$12$hash");
+
+    // Then
+    assertThat(matches).isFalse();
+    verify(this.delegate, times(1)).matches("4321", "$2a$12$hash");
+    assertThat(this.passwordEncoder.matches("1234", "$2a$12$hash")).isTrue();
+  }
+
+  @Test
+  void testMatchesDoesNotCacheFailures() {
+    // Given
+    given(this.delegate.matches("4321", "$2a$12$hash")).willReturn(false);
+
+    // When
+    this.passwordEncoder.matches("4321", "$2a$12$hash");
+    this.passwordEncoder.matches("4321", "$2a$12$hash");
+
+    // Then
+    verify(this.delegate, times(2)).matches("4321", "$2a$12$hash");
+  }
+
+  @Test
+  void testMatchesVerifiesAgainAfterPasswordChange() {
+    // Given
+    given(this.delegate.matches("1234", "$2a$12$old")).willReturn(true);
+    given(this.delegate.matches("1234", "$2a$12$new")).willReturn(false);
+    this.passwordEncoder.matches("1234", "$2a$12$old");
+
+    // When
+    boolean matches = this.passwordEncoder.matches("1234", "$2a$12$new");
+
+    // Then
+    assertThat(matches).isFalse();
+    verify(this.delegate, times(1)).matches("1234", "$2a$12$new");
+  }
+
+  @Test
+  void testEvictForgetsVerifiedPassword() {
+    // Given
+    given(this.delegate.matches("1234", "$2a$12$hash")).willReturn(true);
+    this.passwordEncoder.matches("1234", "$2a$12$hash");
+
+    // When
+    this.passwordEncoder.evict("$2a$12$hash");
+    this.passwordEncoder.matches("1234", "$2a$12$hash");
+
+    // Then
+    verify(this.delegate, times(2)).matches("1234", "$2a$12$hash");
+  }
+
+  @Test
+  void testDeletedUserIsForgotten() {
+    // Given
+    given(this.delegate.matches("1234", "$2a$12$hash")).willReturn(true);
+    this.passwordEncoder.matches("1234", "$2a$12$hash");
+
+    // When
+    this.passwordEncoder.onAppUserDeleted(new AppUserDeletedEvent("Bobby", "$2a$12$hash"));
+    this.passwordEncoder.matches("1234", "$2a$12$hash");
+
+    // Then
+    verify(this.delegate, times(2)).matches("1234", "$2a$12$hash");
+  }
+}
@@ -0,0 +1,87 @@
+package pl.jarekzegzula.system;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import jakarta.servlet.FilterChain;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+import pl.jarekzegzula.system.exception.ServerBusyException;
+
+@ExtendWith(MockitoExtension.class)
+class ConcurrentRequestLimitFilterTest {
+
+  @Mock HandlerExceptionResolver resolver;
+
+  @Test
+  void testRequestsPassAndReleaseTheirPermit() throws Exception {
+    // Given
+    ConcurrentRequestLimitFilter filter =
+        new ConcurrentRequestLimitFilter(1, Duration.ZERO, this.resolver);
+
+    // When
+    MockFilterChain firstChain = new MockFilterChain();
+    MockFilterChain secondChain = new MockFilterChain();
+    filter.doFilter(new MockHttpServletRequest(), new MockHttpServletResponse(), firstChain);
+    filter.doFilter(new MockHttpServletRequest(), new MockHttpServletResponse(), secondChain);
+
+    // Then
+    assertThat(firstChain.getRequest()).isNotNull();
+    assertThat(secondChain.getRequest()).isNotNull();
+    verify(this.resolver, never()).resolveException(any(), any(), any(), any());
+  }
+
+  @Test
+  void testRequestOverTheLimitIsRejected() throws Exception {
+    // Given
+    ConcurrentRequestLimitFilter filter =
+        new ConcurrentRequestLimitFilter(1, Duration.ofMillis(50), this.resolver);
+    CountDownLatch inProgress = new CountDownLatch(1);
+    CountDownLatch finish = new CountDownLatch(1);
+    FilterChain blockingChain =
+        (request, response) -> {
+          inProgress.countDown();
+          try {
+            finish.await();
+          } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+          }
+        };
+    Thread first =
+        Thread.ofVirtual()
+            .start(
+                () -> {
+                  try {
+                    filter.doFilter(
+                        new MockHttpServletRequest(), new MockHttpServletResponse(), blockingChain);
+                  } catch (Exception ex) {
+                    throw new IllegalStateException(ex);
+                  }
+                });
+    assertThat(inProgress.await(5, TimeUnit.SECONDS)).isTrue();
+
+    // When
+    MockFilterChain secondChain = new MockFilterChain();
+    filter.doFilter(new MockHttpServletRequest(), new MockHttpServletResponse(), secondChain);
+    finish.countDown();
+    first.join();
+
+    // Then
+    assertThat(secondChain.getRequest()).isNull();
+    verify(this.resolver, times(1))
+        .resolveException(any(), any(), isNull(), any(ServerBusyException.class));
+  }
+}
@@ -8,12 +8,16 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserCache;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import pl.jarekzegzula.requests.addNewRequest.NewAppUserRequest;
 import pl.jarekzegzula.system.exception.ObjectNotFoundException;
 import pl.jarekzegzula.system.exception.UserAlreadyExistException;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -30,6 +34,10 @@ class AppUserServiceTest {
 
   @Mock PasswordEncoder passwordEncoder;
 
+  @Mock UserCache userCache;
+
+  @Mock ApplicationEventPublisher eventPublisher;
+
   @InjectMocks AppUserService appUserService;
 
   List<AppUser> appUsers;
@@ -113,6 +121,7 @@ class AppUserServiceTest {
 
     // Then
     assertEquals(expectedUser, capturedAppUser);
+    verify(userCache, times(1)).removeUserFromCache("Bobby");
   }
 
   @Test
@@ -135,13 +144,32 @@ class AppUserServiceTest {
   void testDeleteSuccess() {
 
     // Given
-    given(this.appUserRepository.findById(1)).willReturn(Optional.of(new AppUser()));
+    given(this.appUserRepository.findById(1)).willReturn(Optional.of(this.appUsers.get(0)));
 
     // When
     this.appUserService.deleteUserById(1);
 
     // Then
     verify(this.appUserRepository, times(1)).deleteById(1);
+    verify(this.userCache, times(1)).removeUserFromCache("Bobby");
+    verify(this.eventPublisher, times(1)).publishEvent(new AppUserDeletedEvent("Bobby", "123456"));
+  }
+
+  @Test
+  void testGetAuthoritiesFollowsRoleChanges() {
+    // Given
+    AppUser user = this.appUsers.get(0);
+    Collection<? extends GrantedAuthority> adminAuthorities = user.getAuthorities();
+
+    // When
+    user.setRoles("user admin");
+
+    // Then
+    assertThat(user.getAuthorities()).isSameAs(user.getAuthorities());
+    assertThat(adminAuthorities).extracting(GrantedAuthority::getAuthority).containsExactly("ROLE_admin");
+    assertThat(user.getAuthorities())
+        .extracting(GrantedAuthority::getAuthority)
+        .containsExactly("ROLE_user", "ROLE_admin");
   }
 
   @Test